@@ -4,7 +4,6 @@ import backend.academy.generators.PrimGenerator;
 import backend.academy.generators.RecursiveBacktrackerGenerator;
 import backend.academy.interfaces.Generator;
 import backend.academy.interfaces.Solver;
-import backend.academy.models.Cell;
 import backend.academy.models.Coordinate;
 import backend.academy.models.Maze;
 import backend.academy.renderers.ConsoleRenderer;
@@ -126,7 +125,7 @@ public class Game {
             row = readCoordinate(1, maze.getHeight() - 2);
             out.printf("Введите столбец (1 - %d): ", maze.getWidth() - 2);
             col = readCoordinate(1, maze.getWidth() - 2);
-            if (maze.getGrid()[row][col].type() == Cell.Type.PASSAGE) {
+            if (maze.isPassage(row, col)) {
                 break;
             } else {
                 out.println("Неверные координаты или выбрана стена. Попробуйте снова.");
@@ -0,0 +1,145 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.util.Arrays;
+
+/**
+ * Реализация рекурсивного бэктрекинга без создания объектов на каждом шаге.
+ * Строит лабиринты с теми же свойствами, что и {@link RecursiveBacktrackerGenerator},
+ * но хранит стек индексами логических клеток в массиве int, посещенные клетки - битовой картой,
+ * а непосещенных соседей - четырехбитовой маской, из которой сосед выбирается по таблице.
+ * Направление и значения для поверхностей стены и новой клетки берутся из одного случайного числа long,
+ * а поверхности по этим значениям выбирает сама сетка через {@link MazeGrid#getSurfaceForChance},
+ * как и в {@link MazeGrid#getRandomSurface} у остальных генераторов.
+ */
+public class ArrayBacktrackerGenerator implements Generator {
+
+    private static final int DIRECTIONS = 4;
+    private static final int MASKS = 1 << DIRECTIONS;
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};  // Вверх, вниз, влево, вправо
+    private static final int[] COL_STEPS = {0, 0, -1, 1};
+    private static final int UP = 1;
+    private static final int DOWN = 1 << 1;
+    private static final int LEFT = 1 << 2;
+    private static final int RIGHT = 1 << (DIRECTIONS - 1);
+    private static final int INITIAL_STACK = 1024;
+    private static final int WORD_SHIFT = 6;  // log2(Long.SIZE)
+    private static final int CHUNK_BITS = 16;  // Разрядность одного значения из случайного long
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    // NTH_BIT[mask * DIRECTIONS + k] - номер k-го установленного бита маски
+    private static final byte[] NTH_BIT = new byte[MASKS * DIRECTIONS];
+
+    static {
+        for (int mask = 0; mask < MASKS; mask++) {
+            int k = 0;
+            for (int bit = 0; bit < DIRECTIONS; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    NTH_BIT[mask * DIRECTIONS + k++] = (byte) bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Строит лабиринт в переданной сетке методом рекурсивного бэктрекинга.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        int rows = (maze.getHeight() - 1) / 2;
+        int cols = (maze.getWidth() - 1) / 2;
+        long cells = (long) rows * cols;
+        if (cells == 0) {
+            return;
+        }
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Лабиринт слишком велик: " + maze.getHeight() + "x" + maze.getWidth());
+        }
+        long[] visited = new long[(int) ((cells + Long.SIZE - 1) >> WORD_SHIFT)];
+        int[] stack = new int[(int) Math.min(cells, INITIAL_STACK)];
+        int depth = 0;
+
+        maze.setPassage(1, 1, maze.getRandomSurface(random));
+        visited[0] = 1L;
+        stack[depth++] = 0;
+        int row = 0;
+        int col = 0;
+
+        // Основной цикл генерации
+        while (depth > 0) {
+            int mask = unvisitedMask(visited, row, col, rows, cols);
+
+            if (mask == 0) {
+                // Если нет непосещенных соседей, возвращаемся назад
+                if (--depth > 0) {
+                    row = stack[depth - 1] / cols;
+                    col = stack[depth - 1] - row * cols;
+                }
+                continue;
+            }
+
+            // Выбираем случайного соседа и пробиваем стену
+            long bits = random.nextLong();
+            int dir = NTH_BIT[mask * DIRECTIONS + pick(bits, Integer.bitCount(mask), random)];
+            maze.setPassage(2 * row + 1 + ROW_STEPS[dir], 2 * col + 1 + COL_STEPS[dir],
+                maze.getSurfaceForChance(pick(bits >>> CHUNK_BITS, SurfaceType.CHANCE_RANGE, random)));
+            row += ROW_STEPS[dir];
+            col += COL_STEPS[dir];
+            maze.setPassage(2 * row + 1, 2 * col + 1,
+                maze.getSurfaceForChance(pick(bits >>> (2 * CHUNK_BITS), SurfaceType.CHANCE_RANGE, random)));
+
+            int next = row * cols + col;
+            visited[next >>> WORD_SHIFT] |= 1L << next;
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, (int) Math.min(cells, 2L * depth));
+            }
+            stack[depth++] = next;
+        }
+    }
+
+    // Значение из [0, bound) по младшим CHUNK_BITS битам или из random, если биты отброшены
+    private static int pick(long bits, int bound, MazeRandom random) {
+        int value = scale(bits, bound);
+        return value >= 0 ? value : random.nextInt(bound);
+    }
+
+    // Отображает младшие CHUNK_BITS бит в [0, bound) умножением вместо деления (метод Лемира).
+    // 2^16 не делится на bound, поэтому редкие значения, дающие смещение, отбрасываются (результат -1):
+    // каждое значение из [0, bound) получается ровно из 2^16 / bound наборов битов
+    static int scale(long bits, int bound) {
+        long product = (bits & CHUNK_MASK) * bound;
+        long low = product & CHUNK_MASK;
+        if (low < bound && low < (CHUNK_MASK + 1) % bound) {
+            return -1;
+        }
+        return (int) (product >>> CHUNK_BITS);
+    }
+
+    // Маска непосещенных соседей: бит i соответствует направлению i из ROW_STEPS/COL_STEPS
+    private static int unvisitedMask(long[] visited, int row, int col, int rows, int cols) {
+        int index = row * cols + col;
+        int mask = 0;
+        if (row > 0 && !isVisited(visited, index - cols)) {
+            mask |= UP;
+        }
+        if (row < rows - 1 && !isVisited(visited, index + cols)) {
+            mask |= DOWN;
+        }
+        if (col > 0 && !isVisited(visited, index - 1)) {
+            mask |= LEFT;
+        }
+        if (col < cols - 1 && !isVisited(visited, index + 1)) {
+            mask |= RIGHT;
+        }
+        return mask;
+    }
+
+    private static boolean isVisited(long[] visited, int index) {
+        return (visited[index >>> WORD_SHIFT] & (1L << index)) != 0;
+    }
+}
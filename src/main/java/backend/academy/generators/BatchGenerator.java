@@ -0,0 +1,174 @@
+package backend.academy.generators;
+
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Пакетная генерация лабиринтов.
+ * Лабиринты из списка описаний строятся одновременно на заданном исполнителе
+ * и возвращаются в порядке готовности. Одновременно в работе и в ожидании выдачи
+ * находится не больше заданного числа лабиринтов: следующий запускается только
+ * после того, как потребитель забрал готовый, поэтому память ограничена
+ * независимо от длины списка.
+ */
+public class BatchGenerator implements AutoCloseable {
+
+    private final Executor executor;
+    private final int maxInFlight;
+    private final boolean ownsExecutor;
+
+    /**
+     * Создает пакетный генератор на внешнем исполнителе, которым управляет вызывающий код.
+     *
+     * @param executor исполнитель задач генерации
+     * @param maxInFlight наибольшее число лабиринтов, построенных или строящихся, но еще не выданных
+     */
+    public BatchGenerator(Executor executor, int maxInFlight) {
+        this(executor, maxInFlight, false);
+    }
+
+    private BatchGenerator(Executor executor, int maxInFlight, boolean ownsExecutor) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Число одновременных задач должно быть положительным: " + maxInFlight);
+        }
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Создает генератор, запускающий каждый лабиринт в отдельном виртуальном потоке.
+     * Исполнитель закрывается вместе с генератором.
+     *
+     * @param maxInFlight наибольшее число лабиринтов, построенных или строящихся, но еще не выданных
+     * @return пакетный генератор
+     */
+    public static BatchGenerator virtualThreads(int maxInFlight) {
+        return new BatchGenerator(Executors.newVirtualThreadPerTaskExecutor(), maxInFlight, true);
+    }
+
+    /**
+     * Создает генератор на ограниченном пуле платформенных потоков для вычислительной нагрузки.
+     * Исполнитель закрывается вместе с генератором.
+     *
+     * @param threads число потоков
+     * @param maxInFlight наибольшее число лабиринтов, построенных или строящихся, но еще не выданных
+     * @return пакетный генератор
+     */
+    public static BatchGenerator fixedThreads(int threads, int maxInFlight) {
+        return new BatchGenerator(Executors.newFixedThreadPool(threads), maxInFlight, true);
+    }
+
+    /**
+     * Запускает генерацию и возвращает итератор по результатам в порядке готовности.
+     * Новые лабиринты запускаются по мере того, как итератор выдает готовые.
+     * Ошибка генерации одного лабиринта пробрасывается из {@link Iterator#next()}.
+     *
+     * @param specs описания лабиринтов
+     * @return итератор по сгенерированным лабиринтам
+     */
+    public Iterator<GeneratedMaze> generate(List<MazeSpec> specs) {
+        return new ResultIterator(List.copyOf(specs));
+    }
+
+    /**
+     * Генерирует все лабиринты и передает их потребителю в порядке готовности
+     * в потоке вызывающего кода.
+     *
+     * @param specs описания лабиринтов
+     * @param consumer получатель результатов
+     */
+    public void generate(List<MazeSpec> specs, Consumer<GeneratedMaze> consumer) {
+        generate(specs).forEachRemaining(consumer);
+    }
+
+    /**
+     * Закрывает исполнитель, если он был создан этим генератором, дожидаясь запущенных задач.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).close();
+        }
+    }
+
+    private static GeneratedMaze build(MazeSpec spec) {
+        Maze maze = spec.algorithm().create().generate(spec.height(), spec.width(), new MazeRandom(spec.seed()));
+        return new GeneratedMaze(spec, maze);
+    }
+
+    /**
+     * Итератор, поддерживающий окно из не более чем maxInFlight невыданных задач.
+     */
+    private final class ResultIterator implements Iterator<GeneratedMaze> {
+
+        private final List<MazeSpec> specs;
+        private final CompletionService<GeneratedMaze> completion;
+        private int submitted;
+        private int delivered;
+
+        ResultIterator(List<MazeSpec> specs) {
+            this.specs = specs;
+            this.completion = new ExecutorCompletionService<>(executor);
+            refill();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delivered < specs.size();
+        }
+
+        @Override
+        public GeneratedMaze next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Future<GeneratedMaze> done;
+            try {
+                done = completion.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ожидание лабиринта прервано", e);
+            }
+            delivered++;
+            refill();
+            return result(done);
+        }
+
+        private void refill() {
+            while (submitted < specs.size() && submitted - delivered < maxInFlight) {
+                MazeSpec spec = specs.get(submitted++);
+                completion.submit(() -> build(spec));
+            }
+        }
+
+        // Задача уже завершена, поэтому get не блокируется
+        private GeneratedMaze result(Future<GeneratedMaze> done) {
+            try {
+                return done.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ожидание лабиринта прервано", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Не удалось сгенерировать лабиринт", e.getCause());
+            }
+        }
+    }
+}
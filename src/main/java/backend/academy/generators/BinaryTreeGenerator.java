@@ -0,0 +1,45 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Реализация генерации лабиринта алгоритмом двоичного дерева.
+ * Каждая клетка соединяется либо с верхней, либо с правой соседкой, поэтому строки
+ * строятся независимо и параллельно. Лабиринт получается с заметным уклоном
+ * (сплошные коридоры вдоль верхней строки и правого столбца), зато генерируется быстрее всех.
+ */
+public class BinaryTreeGenerator extends RowParallelGenerator {
+
+    private static final double NORTH_CHANCE = 0.5;  // Вероятность прохода вверх, а не вправо
+
+    /**
+     * Создает генератор, обрабатывающий строки параллельно.
+     */
+    public BinaryTreeGenerator() {
+        this(true);
+    }
+
+    /**
+     * Создает генератор.
+     *
+     * @param parallel обрабатывать ли строки параллельно
+     */
+    public BinaryTreeGenerator(boolean parallel) {
+        super(parallel);
+    }
+
+    @Override
+    protected void carveRow(MazeGrid maze, int row, int cols, MazeRandom random) {
+        for (int col = 0; col < cols; col++) {
+            openCell(maze, row, col, random);
+            boolean canGoNorth = row > 0;
+            boolean canGoEast = col < cols - 1;
+            if (canGoNorth && (!canGoEast || random.chance(NORTH_CHANCE))) {
+                openNorth(maze, row, col, random);
+            } else if (canGoEast) {
+                openEast(maze, row, col, random);
+            }
+        }
+    }
+}
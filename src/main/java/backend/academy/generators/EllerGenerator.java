@@ -0,0 +1,275 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.interfaces.RowSink;
+import backend.academy.models.CellCodec;
+import backend.academy.models.Maze;
+import backend.academy.models.MazeCycles;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Реализация генерации лабиринта алгоритмом Эллера.
+ * Лабиринт строится построчно: в памяти хранятся только метки множеств текущей строки,
+ * поэтому готовые строки можно сразу отдавать в файл или другой приемник
+ * и строить лабиринты любой высоты с памятью, пропорциональной ширине.
+ */
+public class EllerGenerator implements Generator {
+
+    private static final double JOIN_CHANCE = 0.5;  // Вероятность объединить соседние клетки строки
+    private static final double DOWN_CHANCE = 0.5;  // Вероятность прохода из клетки вниз
+    private static final int NO_CELL = -1;
+
+    /**
+     * Генерирует лабиринт в памяти, добавляя циклы по ходу построения строк.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param random источник случайности
+     * @return сгенерированный лабиринт
+     */
+    @Override
+    public Maze generate(int height, int width, MazeRandom random) {
+        Maze maze = new Maze(Generator.toOdd(height), Generator.toOdd(width));
+        RowBuilder builder = new RowBuilder(maze.getHeight(), maze.getWidth(), true, random, maze::getSurfaceForChance);
+        byte[] row = new byte[maze.getWidth()];
+        for (int r = 0; r < maze.getHeight(); r++) {
+            builder.nextRow(row);
+            maze.writeRow(r, row);
+        }
+        return maze;
+    }
+
+    /**
+     * Генерирует лабиринт построчно и передает строки приемнику, не храня лабиринт целиком.
+     * Поверхности и циклы назначаются по ходу построения с теми же вероятностями,
+     * что и у остальных генераторов.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param sink приемник строк
+     * @throws IOException если приемник не смог сохранить строку
+     */
+    public void generate(int height, int width, RowSink sink) throws IOException {
+        generate(height, width, sink, new MazeRandom());
+    }
+
+    /**
+     * Генерирует лабиринт построчно, используя заданный источник случайности.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param sink приемник строк
+     * @param random источник случайности
+     * @throws IOException если приемник не смог сохранить строку
+     */
+    public void generate(int height, int width, RowSink sink, MazeRandom random) throws IOException {
+        int oddHeight = Generator.toOdd(height);
+        RowBuilder builder = new RowBuilder(oddHeight, Generator.toOdd(width), true, random, SurfaceType::fromChance);
+        byte[] row = new byte[Generator.toOdd(width)];
+        for (int r = 0; r < oddHeight; r++) {
+            builder.nextRow(row);
+            sink.acceptRow(r, row);
+        }
+    }
+
+    /**
+     * Строит идеальный лабиринт в переданной сетке алгоритмом Эллера.
+     *
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        RowBuilder builder = new RowBuilder(maze.getHeight(), maze.getWidth(), false, random,
+            maze::getSurfaceForChance);
+        byte[] row = new byte[maze.getWidth()];
+        for (int r = 0; r < maze.getHeight(); r++) {
+            builder.nextRow(row);
+            for (int col = 0; col < row.length; col++) {
+                if (CellCodec.isPassage(row[col])) {
+                    maze.setPassage(r, col, CellCodec.surfaceOf(row[col]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Состояние алгоритма для одной строки клеток.
+     * Клетки одного множества связаны в кольцевой список, что позволяет объединять множества,
+     * перебирая только меньшее из них.
+     */
+    private static final class RowBuilder {
+
+        private final int height;
+        private final int width;
+        private final int cols;
+        private final int rows;
+        private final boolean cycles;
+        private final MazeRandom random;
+        private final IntFunction<SurfaceType> surfaces;  // Выбор поверхности по случайному значению
+        private final int[] label;      // Метка множества каждой клетки строки
+        private final int[] next;       // Следующая клетка того же множества
+        private final int[] size;       // Размер множества по метке
+        private final int[] head;
+        private final int[] tail;
+        private final int[] visited;    // Номер строки, в которой множество уже получило проходы вниз
+        private final int[] freeLabels;
+        private final boolean[] down;
+        private int gridRow;
+        private int cellRow;
+
+        RowBuilder(int height, int width, boolean cycles, MazeRandom random, IntFunction<SurfaceType> surfaces) {
+            this.height = height;
+            this.width = width;
+            this.cycles = cycles;
+            this.random = random;
+            this.surfaces = surfaces;
+            this.rows = (height - 1) / 2;
+            this.cols = (width - 1) / 2;
+            this.label = new int[cols];
+            this.next = new int[cols];
+            this.size = new int[cols];
+            this.head = new int[cols];
+            this.tail = new int[cols];
+            this.visited = new int[cols];
+            this.freeLabels = new int[cols];
+            this.down = new boolean[cols];
+            Arrays.fill(visited, NO_CELL);
+            relabel();
+        }
+
+        // Заполняет очередную строку сетки: четные строки содержат проходы вниз, нечетные - клетки
+        void nextRow(byte[] target) {
+            Arrays.fill(target, 0, width, CellCodec.WALL);
+            boolean inside = gridRow > 0 && gridRow < height - 1 && cols > 0;
+            if (inside && gridRow % 2 == 1) {
+                fillCells(target);
+            } else if (inside) {
+                fillDown(target);
+                cellRow++;
+            }
+            gridRow++;
+        }
+
+        // Строка клеток: объединяем соседние множества проходами на восток
+        private void fillCells(byte[] target) {
+            boolean last = cellRow == rows - 1;
+            for (int c = 0; c < cols; c++) {
+                target[2 * c + 1] = randomPassage();
+            }
+            for (int c = 0; c < cols - 1; c++) {
+                if (label[c] != label[c + 1] && (last || random.chance(JOIN_CHANCE))) {
+                    merge(c, c + 1);
+                    target[2 * c + 2] = randomPassage();
+                } else if (shouldCreateCycle()) {
+                    target[2 * c + 2] = randomPassage();
+                }
+            }
+        }
+
+        // Строка между клетками: каждое множество получает хотя бы один проход вниз
+        private void fillDown(byte[] target) {
+            for (int c = 0; c < cols; c++) {
+                if (visited[label[c]] != cellRow) {
+                    visited[label[c]] = cellRow;
+                    chooseDown(c);
+                }
+            }
+            for (int c = 0; c < cols; c++) {
+                if (down[c] || shouldCreateCycle()) {
+                    target[2 * c + 1] = randomPassage();
+                }
+            }
+            relabel();
+        }
+
+        // Выбирает проходы вниз для множества, содержащего клетку start
+        private void chooseDown(int start) {
+            boolean any = false;
+            int cell = start;
+            do {
+                down[cell] = random.chance(DOWN_CHANCE);
+                any |= down[cell];
+                cell = next[cell];
+            } while (cell != start);
+            if (!any) {
+                for (int steps = random.nextInt(size[label[start]]); steps > 0; steps--) {
+                    cell = next[cell];
+                }
+                down[cell] = true;
+            }
+        }
+
+        // Объединяет множества двух клеток, перенумеровывая меньшее
+        private void merge(int first, int second) {
+            int big = size[label[first]] >= size[label[second]] ? first : second;
+            int small = big == first ? second : first;
+            int bigLabel = label[big];
+            int smallLabel = label[small];
+            int cell = small;
+            do {
+                label[cell] = bigLabel;
+                cell = next[cell];
+            } while (cell != small);
+            int swap = next[big];
+            next[big] = next[small];
+            next[small] = swap;
+            size[bigLabel] += size[smallLabel];
+            size[smallLabel] = 0;
+        }
+
+        // Готовит следующую строку: клетки без прохода сверху получают новые множества
+        private void relabel() {
+            Arrays.fill(size, 0);
+            for (int c = 0; c < cols; c++) {
+                if (down[c]) {
+                    size[label[c]]++;
+                }
+            }
+            int free = 0;
+            for (int l = 0; l < cols; l++) {
+                if (size[l] == 0) {
+                    freeLabels[free++] = l;
+                }
+            }
+            Arrays.fill(head, NO_CELL);
+            for (int c = 0; c < cols; c++) {
+                if (!down[c]) {
+                    label[c] = freeLabels[--free];
+                    size[label[c]] = 1;
+                }
+                link(c);
+                down[c] = false;
+            }
+            for (int c = 0; c < cols; c++) {
+                if (tail[label[c]] == c) {
+                    next[c] = head[label[c]];
+                }
+            }
+        }
+
+        // Добавляет клетку в конец списка ее множества
+        private void link(int cell) {
+            int l = label[cell];
+            if (head[l] == NO_CELL) {
+                head[l] = cell;
+            } else {
+                next[tail[l]] = cell;
+            }
+            tail[l] = cell;
+        }
+
+        private boolean shouldCreateCycle() {
+            return cycles && random.chance(MazeCycles.CYCLE_CHANCE);
+        }
+
+        private byte randomPassage() {
+            return CellCodec.passage(surfaces.apply(random.nextInt(SurfaceType.CHANCE_RANGE)));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package backend.academy.generators;
+
+import backend.academy.models.Maze;
+
+/**
+ * Результат пакетной генерации: описание лабиринта и построенный по нему лабиринт.
+ *
+ * @param spec описание лабиринта
+ * @param maze сгенерированный лабиринт
+ */
+public record GeneratedMaze(MazeSpec spec, Maze maze) {}
@@ -0,0 +1,37 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import java.util.function.Supplier;
+
+/**
+ * Алгоритмы генерации лабиринтов, доступные по имени,
+ * например в описаниях пакетной генерации {@link MazeSpec}.
+ */
+public enum GeneratorType {
+
+    PRIM(PrimGenerator::new),
+    RECURSIVE_BACKTRACKER(RecursiveBacktrackerGenerator::new),
+    ARRAY_BACKTRACKER(ArrayBacktrackerGenerator::new),
+    HUNT_AND_KILL(HuntAndKillGenerator::new),
+    KRUSKAL(KruskalGenerator::new),
+    ELLER(EllerGenerator::new),
+    BINARY_TREE(BinaryTreeGenerator::new),
+    SIDEWINDER(SidewinderGenerator::new),
+    RECURSIVE_DIVISION(RecursiveDivisionGenerator::new),
+    PARALLEL_TILED(ParallelTiledGenerator::new);
+
+    private final Supplier<Generator> factory;
+
+    GeneratorType(Supplier<Generator> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Создает новый генератор этого алгоритма.
+     *
+     * @return генератор
+     */
+    public Generator create() {
+        return factory.get();
+    }
+}
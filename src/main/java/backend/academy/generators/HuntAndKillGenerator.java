@@ -0,0 +1,151 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+import java.util.Arrays;
+
+/**
+ * Реализация генерации лабиринта алгоритмом "охота и убийство".
+ * Случайное блуждание пробивает проходы в непосещенные клетки, а зайдя в тупик,
+ * алгоритм ищет первую непосещенную клетку и присоединяет ее к уже построенной части.
+ * Лабиринты получаются с длинными коридорами, как у {@link RecursiveBacktrackerGenerator},
+ * но вместо стека хранится только битовая карта непосещенных клеток - один бит на клетку.
+ * Поиск продолжается с места предыдущего, поэтому все охоты вместе просматривают карту один раз.
+ */
+public class HuntAndKillGenerator implements Generator {
+
+    // Противоположные направления отличаются младшим битом номера
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};  // Вверх, вниз, влево, вправо
+    private static final int[] COL_STEPS = {0, 0, -1, 1};
+    private static final int UP = 0;
+    private static final int LEFT = 2;
+    private static final int WORD_SHIFT = 6;  // log2(Long.SIZE)
+
+    /**
+     * Строит лабиринт в переданной сетке алгоритмом "охота и убийство".
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        int rows = (maze.getHeight() - 1) / 2;
+        int cols = (maze.getWidth() - 1) / 2;
+        if (rows == 0 || cols == 0) {
+            return;
+        }
+        UnvisitedCells unvisited = new UnvisitedCells(rows, cols);
+        int row = 0;
+        int col = 0;
+        maze.setPassage(1, 1, maze.getRandomSurface(random));
+        unvisited.visit(0, 0);
+
+        while (true) {
+            int mask = unvisitedMask(unvisited, row, col, rows, cols);
+            int back;  // Направление от новой клетки к клетке, с которой она соединяется
+            if (mask != 0) {
+                // Блуждание: идем в случайного непосещенного соседа
+                int dir = nthBit(mask, random.nextInt(Integer.bitCount(mask)));
+                row += ROW_STEPS[dir];
+                col += COL_STEPS[dir];
+                back = dir ^ 1;
+            } else if (unvisited.hunt()) {
+                // Охота: все строки выше найденной посещены, а в первой строке посещены клетки левее,
+                // поэтому найденную клетку можно присоединить сверху или слева
+                row = unvisited.foundRow();
+                col = unvisited.foundCol();
+                back = row > 0 ? UP : LEFT;
+            } else {
+                return;
+            }
+            maze.setPassage(2 * row + 1 + ROW_STEPS[back], 2 * col + 1 + COL_STEPS[back],
+                maze.getRandomSurface(random));
+            maze.setPassage(2 * row + 1, 2 * col + 1, maze.getRandomSurface(random));
+            unvisited.visit(row, col);
+        }
+    }
+
+    // Маска непосещенных соседей: бит i соответствует направлению i из ROW_STEPS/COL_STEPS
+    private static int unvisitedMask(UnvisitedCells unvisited, int row, int col, int rows, int cols) {
+        int mask = 0;
+        for (int dir = 0; dir < ROW_STEPS.length; dir++) {
+            int r = row + ROW_STEPS[dir];
+            int c = col + COL_STEPS[dir];
+            if (r >= 0 && r < rows && c >= 0 && c < cols && unvisited.contains(r, c)) {
+                mask |= 1 << dir;
+            }
+        }
+        return mask;
+    }
+
+    // Номер n-го установленного бита маски
+    private static int nthBit(int mask, int n) {
+        int rest = mask;
+        for (int i = 0; i < n; i++) {
+            rest &= rest - 1;
+        }
+        return Integer.numberOfTrailingZeros(rest);
+    }
+
+    /**
+     * Битовая карта непосещенных клеток по строкам с курсором охоты.
+     * Клетки только посещаются, поэтому обнуленные слова левее курсора и строки выше него
+     * больше не просматриваются.
+     */
+    private static final class UnvisitedCells {
+
+        private final long[] bits;
+        private final int rows;
+        private final int wordsPerRow;
+        private int huntRow;
+        private int huntWord;
+        private int foundCol;
+
+        UnvisitedCells(int rows, int cols) {
+            this.rows = rows;
+            this.wordsPerRow = (cols + Long.SIZE - 1) >>> WORD_SHIFT;
+            if ((long) rows * wordsPerRow > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Лабиринт слишком велик: " + rows + "x" + cols);
+            }
+            this.bits = new long[rows * wordsPerRow];
+            long lastWord = cols % Long.SIZE == 0 ? -1L : (1L << cols) - 1;
+            for (int row = 0; row < rows; row++) {
+                int base = row * wordsPerRow;
+                Arrays.fill(bits, base, base + wordsPerRow - 1, -1L);
+                bits[base + wordsPerRow - 1] = lastWord;
+            }
+        }
+
+        boolean contains(int row, int col) {
+            return (bits[row * wordsPerRow + (col >>> WORD_SHIFT)] & (1L << col)) != 0;
+        }
+
+        void visit(int row, int col) {
+            bits[row * wordsPerRow + (col >>> WORD_SHIFT)] &= ~(1L << col);
+        }
+
+        // Сдвигает курсор к первой непосещенной клетке, возвращает false, если все клетки посещены
+        boolean hunt() {
+            while (huntRow < rows) {
+                long word = bits[huntRow * wordsPerRow + huntWord];
+                if (word != 0) {
+                    foundCol = (huntWord << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                    return true;
+                }
+                if (++huntWord == wordsPerRow) {
+                    huntWord = 0;
+                    huntRow++;
+                }
+            }
+            return false;
+        }
+
+        int foundRow() {
+            return huntRow;
+        }
+
+        int foundCol() {
+            return foundCol;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Реализация рандомизированного алгоритма Краскала для генерации лабиринта.
+ * Все стены между логическими клетками перемешиваются, затем стена пробивается,
+ * если клетки по ее сторонам еще не связаны. Связность отслеживается системой
+ * непересекающихся множеств на массиве int со сжатием путей делением пополам.
+ * В параллельном режиме перемешанные стены обрабатываются пакетами в {@link ForkJoinPool},
+ * а множества объединяются без блокировок через compareAndSet. Результат и в этом режиме
+ * остается идеальным лабиринтом, но зависит от порядка выполнения пакетов,
+ * поэтому воспроизводим по seed только последовательный режим.
+ */
+public class KruskalGenerator implements Generator {
+
+    private static final int BATCH_SIZE = 1 << 14;  // Число стен в одном параллельном пакете
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Создает последовательный генератор.
+     */
+    public KruskalGenerator() {
+        this(null);
+    }
+
+    /**
+     * Создает генератор, объединяющий множества параллельно в заданном пуле.
+     * Сетка должна допускать одновременную запись в разные клетки из разных потоков.
+     *
+     * @param pool пул потоков или null для последовательного режима
+     */
+    public KruskalGenerator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Строит лабиринт в переданной сетке алгоритмом Краскала.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        int rows = (maze.getHeight() - 1) / 2;
+        int cols = (maze.getWidth() - 1) / 2;
+        if ((long) rows * cols * 2 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Лабиринт слишком велик: " + maze.getHeight() + "x" + maze.getWidth());
+        }
+        if (rows == 0 || cols == 0) {
+            return;
+        }
+        int[] edges = shuffledEdges(rows * cols, random);
+        if (pool == null) {
+            carveSequential(maze, rows, cols, edges, random);
+        } else {
+            carveParallel(maze, rows, cols, edges, random);
+        }
+    }
+
+    // Все стены кодируются числом 2 * клетка + направление (0 - вправо, 1 - вниз) и перемешиваются
+    private static int[] shuffledEdges(int cells, MazeRandom random) {
+        int[] edges = new int[2 * cells];
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = i;
+        }
+        // Тасование Фишера-Йетса
+        for (int i = edges.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = edges[i];
+            edges[i] = edges[j];
+            edges[j] = swap;
+        }
+        return edges;
+    }
+
+    private void carveSequential(MazeGrid maze, int rows, int cols, int[] edges, MazeRandom random) {
+        for (int row = 0; row < rows; row++) {
+            openCells(maze, row, cols, random);
+        }
+        int[] parent = new int[rows * cols];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        for (int edge : edges) {
+            int cell = edge >>> 1;
+            int other = neighbor(edge, rows, cols);
+            if (other < 0) {
+                continue;
+            }
+            int rootA = find(parent, cell);
+            int rootB = find(parent, other);
+            if (rootA != rootB) {
+                parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+                openWall(maze, edge, cols, random);
+            }
+        }
+    }
+
+    private void carveParallel(MazeGrid maze, int rows, int cols, int[] edges, MazeRandom random) {
+        pool.invoke(new RangeTask(0, rows, row -> openCells(maze, row, cols, random.forStream(row))));
+        AtomicIntegerArray parent = new AtomicIntegerArray(rows * cols);
+        for (int i = 0; i < parent.length(); i++) {
+            parent.set(i, i);
+        }
+        int batches = (edges.length + BATCH_SIZE - 1) / BATCH_SIZE;
+        pool.invoke(new RangeTask(0, batches, batch -> {
+            MazeRandom batchRandom = random.forStream((long) rows + batch);
+            int end = Math.min(edges.length, (batch + 1) * BATCH_SIZE);
+            for (int i = batch * BATCH_SIZE; i < end; i++) {
+                int other = neighbor(edges[i], rows, cols);
+                if (other >= 0 && unionConcurrent(parent, edges[i] >>> 1, other)) {
+                    openWall(maze, edges[i], cols, batchRandom);
+                }
+            }
+        }));
+    }
+
+    // Делает проходами все логические клетки строки
+    private static void openCells(MazeGrid maze, int row, int cols, MazeRandom random) {
+        for (int col = 0; col < cols; col++) {
+            maze.setPassage(2 * row + 1, 2 * col + 1, maze.getRandomSurface(random));
+        }
+    }
+
+    // Пробивает стену, закодированную числом edge
+    private static void openWall(MazeGrid maze, int edge, int cols, MazeRandom random) {
+        int cell = edge >>> 1;
+        int row = cell / cols;
+        int col = cell - row * cols;
+        boolean right = (edge & 1) == 0;
+        maze.setPassage(2 * row + 1 + (right ? 0 : 1), 2 * col + 1 + (right ? 1 : 0), maze.getRandomSurface(random));
+    }
+
+    // Клетка по другую сторону стены или -1 для стены на внешней границе
+    private static int neighbor(int edge, int rows, int cols) {
+        int cell = edge >>> 1;
+        if ((edge & 1) == 0) {
+            return cell % cols == cols - 1 ? -1 : cell + 1;
+        }
+        return cell / cols == rows - 1 ? -1 : cell + cols;
+    }
+
+    // Поиск корня со сжатием пути делением пополам
+    private static int find(int[] parent, int node) {
+        int current = node;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    // Поиск корня без блокировок: неудачное сжатие пути не мешает, его выполнит следующий поиск
+    private static int findConcurrent(AtomicIntegerArray parent, int node) {
+        int current = node;
+        while (true) {
+            int up = parent.get(current);
+            if (up == current) {
+                return current;
+            }
+            int grand = parent.get(up);
+            if (grand != up) {
+                parent.compareAndSet(current, up, grand);
+            }
+            current = grand;
+        }
+    }
+
+    // Объединение без блокировок: корень с большим индексом подвешивается к меньшему,
+    // поэтому одновременные объединения не могут создать цикл
+    private static boolean unionConcurrent(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            int rootA = findConcurrent(parent, a);
+            int rootB = findConcurrent(parent, b);
+            if (rootA == rootB) {
+                return false;
+            }
+            int low = Math.min(rootA, rootB);
+            int high = Math.max(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Задача обработки диапазона индексов, делящаяся пополам до одного индекса.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer action;
+
+        RangeTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, action), new RangeTask(middle, to, action));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package backend.academy.generators;
+
+/**
+ * Описание одного лабиринта для пакетной генерации.
+ *
+ * @param height высота лабиринта, не меньше {@link #MIN_SIZE}
+ * @param width ширина лабиринта, не меньше {@link #MIN_SIZE}
+ * @param algorithm алгоритм генерации
+ * @param seed зерно генератора случайных чисел
+ */
+public record MazeSpec(int height, int width, GeneratorType algorithm, long seed) {
+
+    public static final int MIN_SIZE = 3;  // Наименьший размер с одной клеткой внутри внешней стены
+
+    public MazeSpec {
+        if (height < MIN_SIZE || width < MIN_SIZE) {
+            throw new IllegalArgumentException("Размеры лабиринта должны быть не меньше " + MIN_SIZE + ": "
+                + height + "x" + width);
+        }
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Не указан алгоритм генерации");
+        }
+    }
+}
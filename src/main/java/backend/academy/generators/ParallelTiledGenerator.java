@@ -0,0 +1,220 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.MazeRegion;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная генерация лабиринта по плиткам.
+ * Сетка делится на прямоугольные плитки, каждая строится отдельным генератором в {@link ForkJoinPool},
+ * после чего плитки сшиваются: между соседними плитками пробивается по одному проходу
+ * вдоль ребер случайного остовного дерева плиток. Так как каждая плитка - идеальный лабиринт,
+ * а плитки соединены деревом, весь лабиринт тоже остается идеальным и связным.
+ * Каждая плитка получает собственный поток случайности по своему номеру,
+ * поэтому результат при одном seed не зависит от числа потоков.
+ * Сетка должна допускать одновременную запись в разные клетки из разных потоков,
+ * например {@link backend.academy.models.Maze} с хранением в куче или в сегменте памяти.
+ */
+public class ParallelTiledGenerator implements Generator {
+
+    private static final int DEFAULT_TILE_SIZE = 128;  // Размер плитки в логических клетках
+
+    private final Generator tileGenerator;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Создает генератор на общем пуле с плитками алгоритма Прима размера по умолчанию.
+     */
+    public ParallelTiledGenerator() {
+        this(new PrimGenerator(), DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создает генератор.
+     *
+     * @param tileGenerator генератор для отдельных плиток
+     * @param tileSize сторона плитки в логических клетках
+     * @param pool пул для параллельной генерации плиток
+     */
+    public ParallelTiledGenerator(Generator tileGenerator, int tileSize, ForkJoinPool pool) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Размер плитки должен быть положительным: " + tileSize);
+        }
+        this.tileGenerator = tileGenerator;
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Строит лабиринт по плиткам и сшивает их в один идеальный лабиринт.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        Tiling tiling = new Tiling(maze, tileSize);
+        if (tiling.tileCount() == 0) {
+            return;
+        }
+        pool.invoke(new TileTask(tileGenerator, maze, tiling, random, 0, tiling.tileCount()));
+        stitch(maze, tiling, random);
+    }
+
+    // Соединяет плитки проходами вдоль ребер случайного остовного дерева (алгоритм Краскала)
+    private void stitch(MazeGrid maze, Tiling tiling, MazeRandom random) {
+        int tiles = tiling.tileCount();
+        int[] parent = new int[tiles];
+        for (int i = 0; i < tiles; i++) {
+            parent[i] = i;
+        }
+        // Ребро 2 * t ведет из плитки t вправо, ребро 2 * t + 1 - вниз
+        int[] edges = new int[2 * tiles];
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = i;
+        }
+        for (int i = edges.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = edges[i];
+            edges[i] = edges[j];
+            edges[j] = swap;
+        }
+        for (int edge : edges) {
+            int tile = edge / 2;
+            boolean right = edge % 2 == 0;
+            int neighbor = right ? tiling.rightOf(tile) : tiling.below(tile);
+            if (neighbor >= 0 && union(parent, tile, neighbor)) {
+                openSeam(maze, tiling, tile, right, random);
+            }
+        }
+    }
+
+    // Пробивает проход в стене между плиткой и ее соседом справа или снизу
+    private void openSeam(MazeGrid maze, Tiling tiling, int tile, boolean right, MazeRandom random) {
+        int tileRow = tile / tiling.tileCols;
+        int tileCol = tile % tiling.tileCols;
+        if (right) {
+            int row = tiling.firstRow(tileRow) + random.nextInt(tiling.rowsIn(tileRow));
+            int wallCol = 2 * tiling.firstCol(tileCol + 1);
+            maze.setPassage(2 * row + 1, wallCol, maze.getRandomSurface(random));
+        } else {
+            int col = tiling.firstCol(tileCol) + random.nextInt(tiling.colsIn(tileCol));
+            int wallRow = 2 * tiling.firstRow(tileRow + 1);
+            maze.setPassage(wallRow, 2 * col + 1, maze.getRandomSurface(random));
+        }
+    }
+
+    // Объединяет множества двух плиток, возвращает false, если они уже были связаны
+    private static boolean union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA == rootB) {
+            return false;
+        }
+        parent[rootA] = rootB;
+        return true;
+    }
+
+    private static int find(int[] parent, int node) {
+        int current = node;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Разбиение логических клеток лабиринта на плитки.
+     */
+    private static final class Tiling {
+
+        private final int rows;
+        private final int cols;
+        private final int size;
+        private final int tileRows;
+        private final int tileCols;
+
+        Tiling(MazeGrid maze, int size) {
+            this.rows = (maze.getHeight() - 1) / 2;
+            this.cols = (maze.getWidth() - 1) / 2;
+            this.size = size;
+            this.tileRows = (rows + size - 1) / size;
+            this.tileCols = (cols + size - 1) / size;
+        }
+
+        int tileCount() {
+            return tileRows * tileCols;
+        }
+
+        int firstRow(int tileRow) {
+            return tileRow * size;
+        }
+
+        int firstCol(int tileCol) {
+            return tileCol * size;
+        }
+
+        int rowsIn(int tileRow) {
+            return Math.min(size, rows - firstRow(tileRow));
+        }
+
+        int colsIn(int tileCol) {
+            return Math.min(size, cols - firstCol(tileCol));
+        }
+
+        int rightOf(int tile) {
+            return tile % tileCols == tileCols - 1 ? -1 : tile + 1;
+        }
+
+        int below(int tile) {
+            return tile / tileCols == tileRows - 1 ? -1 : tile + tileCols;
+        }
+
+        // Окно плитки вместе с окружающими ее стенами
+        MazeRegion region(MazeGrid maze, int tile) {
+            int tileRow = tile / tileCols;
+            int tileCol = tile % tileCols;
+            return new MazeRegion(maze, 2 * firstRow(tileRow), 2 * firstCol(tileCol),
+                2 * rowsIn(tileRow) + 1, 2 * colsIn(tileCol) + 1);
+        }
+    }
+
+    /**
+     * Задача генерации диапазона плиток, делящаяся пополам до одной плитки.
+     */
+    private static final class TileTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Generator tileGenerator;
+        private final transient MazeGrid maze;
+        private final transient Tiling tiling;
+        private final transient MazeRandom random;
+        private final int from;
+        private final int to;
+
+        TileTask(Generator tileGenerator, MazeGrid maze, Tiling tiling, MazeRandom random, int from, int to) {
+            this.tileGenerator = tileGenerator;
+            this.maze = maze;
+            this.tiling = tiling;
+            this.random = random;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                tileGenerator.carve(tiling.region(maze, from), random.forStream(from));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(tileGenerator, maze, tiling, random, from, middle),
+                new TileTask(tileGenerator, maze, tiling, random, middle, to));
+        }
+    }
+}
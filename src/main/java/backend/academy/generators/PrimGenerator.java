@@ -1,127 +1,174 @@
 package backend.academy.generators;
 
-import backend.academy.interfaces.Generator;
-import backend.academy.models.Cell;
-import backend.academy.models.Coordinate;
-import backend.academy.models.Maze;
-import backend.academy.utils.RandomUtils;
-import java.util.ArrayList;
-import java.util.List;
+import backend.academy.interfaces.CarveCursor;
+import backend.academy.interfaces.CarveListener;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.interfaces.SteppableGenerator;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.util.Arrays;
 
 /**
  * Реализация алгоритма Прима для генерации лабиринта. Алгоритм создает лабиринт с единственным
  * путем между двумя любыми точками и возможностью добавления циклов.
+ * Поддерживает пошаговое построение через {@link CarveCursor}.
  */
-public class PrimGenerator implements Generator {
+public class PrimGenerator implements SteppableGenerator {
+
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};  // Вверх, вниз, влево, вправо
+    private static final int[] COL_STEPS = {0, 0, -1, 1};
 
     /**
-     * Генерирует лабиринт заданной высоты и ширины с использованием алгоритма Прима.
-     * @param height высота лабиринта
-     * @param width ширина лабиринта
-     * @return сгенерированный лабиринт
+     * Создает курсор пошаговой генерации алгоритмом Прима.
+     * Один шаг - извлечение одной стены из множества кандидатов.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     * @param listener получатель событий о новых проходах
+     * @return курсор генерации
      */
     @Override
-    public Maze generate(int height, int width) {
-        // Приводим размеры лабиринта к нечетным для корректной генерации
-        int adjustedHeight = height % 2 == 0 ? height + 1 : height;
-        int adjustedWidth = width % 2 == 0 ? width + 1 : width;
-
-        Maze maze = new Maze(adjustedHeight, adjustedWidth);
-        List<Coordinate> wallList = new ArrayList<>();
-
-        // Начальная точка лабиринта
-        int startRow = 1;
-        int startCol = 1;
-        maze.getGrid()[startRow][startCol] = new Cell(startRow, startCol, Cell.Type.PASSAGE, maze.getRandomSurface());
-        addWalls(maze, startRow, startCol, wallList);
-
-        // Основной цикл генерации
-        while (!wallList.isEmpty()) {
-            int randIndex = RandomUtils.nextInt(wallList.size());
-            Coordinate wall = wallList.remove(randIndex);
-
-            // Получаем список клеток по обе стороны стены
-            List<Coordinate> adjacentCells = getAdjacentCells(maze, wall);
-
-            // Продолжаем, если стена не находится между двумя клетками
-            if (adjacentCells.size() != 2) {
-                continue;
+    public CarveCursor cursor(MazeGrid maze, MazeRandom random, CarveListener listener) {
+        return new PrimCursor(maze, random, listener);
+    }
+
+    /**
+     * Состояние алгоритма Прима между шагами.
+     */
+    private static final class PrimCursor implements CarveCursor {
+
+        private final MazeGrid maze;
+        private final MazeRandom random;
+        private final CarveListener listener;
+        private final Frontier frontier;
+        private final int width;
+        private boolean started;
+
+        PrimCursor(MazeGrid maze, MazeRandom random, CarveListener listener) {
+            this.maze = maze;
+            this.random = random;
+            this.listener = listener;
+            this.frontier = new Frontier(maze.getHeight(), maze.getWidth());
+            this.width = maze.getWidth();
+        }
+
+        @Override
+        public boolean advance(int maxSteps) {
+            int steps = 0;
+            if (!started) {
+                // Начальная точка лабиринта
+                started = true;
+                carveCell(1, 1);
+                addWalls(1, 1);
+                steps++;
             }
 
-            Coordinate cell1 = adjacentCells.get(0);
-            Coordinate cell2 = adjacentCells.get(1);
+            // Основной цикл генерации
+            while (steps < maxSteps && !frontier.isEmpty()) {
+                steps++;
+                int wall = frontier.removeRandom(random);
+                int row = wall / width;
+                int col = wall % width;
+
+                // Стена в нечетной строке разделяет клетки слева и справа, в четной - сверху и снизу
+                boolean horizontal = row % 2 == 1;
+                int row1 = horizontal ? row : row - 1;
+                int col1 = horizontal ? col - 1 : col;
+                int row2 = horizontal ? row : row + 1;
+                int col2 = horizontal ? col + 1 : col;
+
+                // Продолжаем, если стена не находится между двумя клетками
+                if (!maze.isInBounds(row1, col1) || !maze.isInBounds(row2, col2)) {
+                    continue;
+                }
 
-            boolean cell1InMaze = maze.getGrid()[cell1.row()][cell1.col()].type() == Cell.Type.PASSAGE;
-            boolean cell2InMaze = maze.getGrid()[cell2.row()][cell2.col()].type() == Cell.Type.PASSAGE;
+                boolean cell1InMaze = maze.isPassage(row1, col1);
+                boolean cell2InMaze = maze.isPassage(row2, col2);
 
-            // Проверка, что только одна из соседних клеток уже является частью лабиринта
-            if (cell1InMaze ^ cell2InMaze) {
-                Coordinate inMaze = cell1InMaze ? cell1 : cell2;
-                Coordinate notInMaze = cell1InMaze ? cell2 : cell1;
+                // Проверка, что только одна из соседних клеток уже является частью лабиринта
+                if (cell1InMaze ^ cell2InMaze) {
+                    int newRow = cell1InMaze ? row2 : row1;
+                    int newCol = cell1InMaze ? col2 : col1;
 
-                // Убираем стену между клетками и добавляем новую клетку к лабиринту
-                maze.removeWall(inMaze, notInMaze);
-                maze.getGrid()[notInMaze.row()][notInMaze.col()] = new Cell(notInMaze.row(), notInMaze.col(),
-                    Cell.Type.PASSAGE, maze.getRandomSurface());
+                    // Убираем стену между клетками и добавляем новую клетку к лабиринту
+                    carveCell(row, col);
+                    carveCell(newRow, newCol);
 
-                // Добавляем соседние стены новой клетки в список для обработки
-                addWalls(maze, notInMaze.row(), notInMaze.col(), wallList);
+                    // Добавляем соседние стены новой клетки в список для обработки
+                    addWalls(newRow, newCol);
+                }
             }
+            return !frontier.isEmpty();
         }
 
-        // Добавляем циклы в лабиринт после завершения основной генерации
-        maze.addCycles();
+        @Override
+        public boolean isDone() {
+            return started && frontier.isEmpty();
+        }
 
-        return maze;
-    }
+        private void carveCell(int row, int col) {
+            SurfaceType surface = maze.getRandomSurface(random);
+            maze.setPassage(row, col, surface);
+            listener.onCarve(row, col, surface);
+        }
 
-    /**
-     * Добавляет соседние стены клетки в список для обработки.
-     * @param maze текущий лабиринт
-     * @param row строка клетки
-     * @param col столбец клетки
-     * @param wallList список стен
-     */
-    private void addWalls(Maze maze, int row, int col, List<Coordinate> wallList) {
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            if (maze.isInBounds(newRow, newCol) && maze.getGrid()[newRow][newCol].type() == Cell.Type.WALL) {
-                Coordinate wall = new Coordinate(newRow, newCol);
-                if (!wallList.contains(wall)) {
-                    wallList.add(wall);
+        // Добавляет соседние стены клетки в множество для обработки
+        private void addWalls(int row, int col) {
+            for (int d = 0; d < ROW_STEPS.length; d++) {
+                int newRow = row + ROW_STEPS[d];
+                int newCol = col + COL_STEPS[d];
+                if (maze.isInBounds(newRow, newCol) && !maze.isPassage(newRow, newCol)) {
+                    frontier.add(newRow * width + newCol);
                 }
             }
         }
     }
 
     /**
-     * Находит клетки, смежные со стеной, которые могут быть соединены.
-     * @param maze текущий лабиринт
-     * @param wall координаты стены
-     * @return список соседних клеток по обе стороны от стены
+     * Множество стен-кандидатов с проверкой принадлежности и случайным удалением за O(1).
+     * Принадлежность хранится битовой картой по индексам клеток, сами стены - в массиве,
+     * из которого элемент удаляется заменой на последний.
+     * Стена, однажды попавшая в множество, повторно не добавляется: к моменту ее удаления
+     * обе клетки по ее сторонам либо уже в лабиринте, либо одна из них только что в него добавлена.
      */
-    private List<Coordinate> getAdjacentCells(Maze maze, Coordinate wall) {
-        List<Coordinate> cells = new ArrayList<>();
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        for (int[] dir : directions) {
-            int adjRow = wall.row() + dir[0];
-            int adjCol = wall.col() + dir[1];
-            if (maze.isInBounds(adjRow, adjCol) && isCell(wall, dir)) {
-                cells.add(new Coordinate(adjRow, adjCol));
+    private static final class Frontier {
+
+        private static final int INITIAL_CAPACITY = 64;
+        private static final int WORD_SHIFT = 6;  // log2(Long.SIZE)
+
+        private final long[] added;
+        private int[] walls = new int[INITIAL_CAPACITY];
+        private int size;
+
+        Frontier(int height, int width) {
+            long cells = (long) height * width;
+            if (cells > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Лабиринт слишком велик для алгоритма Прима: "
+                    + height + "x" + width);
             }
+            this.added = new long[(int) ((cells + Long.SIZE - 1) >> WORD_SHIFT)];
         }
-        return cells;
-    }
 
-    /**
-     * Проверяет, является ли клетка допустимой (находится ли она на допустимом расстоянии от стены).
-     * @param wall координаты стены
-     * @param dir направление
-     * @return true, если клетка является допустимой
-     */
-    private boolean isCell(Coordinate wall, int[] dir) {
-        return (wall.row() + dir[0]) % 2 != 0 && (wall.col() + dir[1]) % 2 != 0;
+        void add(int wall) {
+            long bit = 1L << wall;
+            if ((added[wall >>> WORD_SHIFT] & bit) != 0) {
+                return;
+            }
+            added[wall >>> WORD_SHIFT] |= bit;
+            if (size == walls.length) {
+                walls = Arrays.copyOf(walls, size * 2);
+            }
+            walls[size++] = wall;
+        }
+
+        int removeRandom(MazeRandom random) {
+            int index = random.nextInt(size);
+            int wall = walls[index];
+            walls[index] = walls[--size];
+            return wall;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
     }
 }
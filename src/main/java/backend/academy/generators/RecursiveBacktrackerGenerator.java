@@ -1,10 +1,12 @@
 package backend.academy.generators;
 
-import backend.academy.interfaces.Generator;
-import backend.academy.models.Cell;
+import backend.academy.interfaces.CarveCursor;
+import backend.academy.interfaces.CarveListener;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.interfaces.SteppableGenerator;
 import backend.academy.models.Coordinate;
-import backend.academy.models.Maze;
-import backend.academy.utils.RandomUtils;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
@@ -13,73 +15,105 @@ import java.util.Stack;
  * Реализация генерации лабиринта методом рекурсивного бэктрекинга.
  * Алгоритм создает лабиринт с единственным путем между двумя точками,
  * проходя случайные пути и возвращаясь при необходимости.
+ * Поддерживает пошаговое построение через {@link CarveCursor}.
  */
-public class RecursiveBacktrackerGenerator implements Generator {
+public class RecursiveBacktrackerGenerator implements SteppableGenerator {
 
     private static final int WALL_STEP = 2; // Шаг через стену для поиска соседних клеток
 
     /**
-     * Генерирует лабиринт заданной высоты и ширины.
-     * @param initialHeight начальная высота лабиринта
-     * @param initialWidth начальная ширина лабиринта
-     * @return сгенерированный лабиринт
+     * Создает курсор пошаговой генерации методом рекурсивного бэктрекинга.
+     * Один шаг - переход в новую клетку или возврат на одну клетку назад.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     * @param listener получатель событий о новых проходах
+     * @return курсор генерации
      */
     @Override
-    public Maze generate(int initialHeight, int initialWidth) {
-        // Приводим высоту и ширину к нечетным значениям для корректной генерации
-        int height = initialHeight % 2 == 0 ? initialHeight + 1 : initialHeight;
-        int width = initialWidth % 2 == 0 ? initialWidth + 1 : initialWidth;
+    public CarveCursor cursor(MazeGrid maze, MazeRandom random, CarveListener listener) {
+        return new BacktrackerCursor(maze, random, listener);
+    }
+
+    /**
+     * Состояние бэктрекинга между шагами: стек пройденных клеток.
+     */
+    private static final class BacktrackerCursor implements CarveCursor {
+
+        private final MazeGrid maze;
+        private final MazeRandom random;
+        private final CarveListener listener;
+        private final Stack<Coordinate> stack = new Stack<>();
+        private boolean started;
 
-        Maze maze = new Maze(height, width);
-        Stack<Coordinate> stack = new Stack<>();
-        int startRow = 1;
-        int startCol = 1;
-        maze.getGrid()[startRow][startCol] = new Cell(startRow, startCol, Cell.Type.PASSAGE, maze.getRandomSurface());
-        stack.push(new Coordinate(startRow, startCol));
+        BacktrackerCursor(MazeGrid maze, MazeRandom random, CarveListener listener) {
+            this.maze = maze;
+            this.random = random;
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean advance(int maxSteps) {
+            int steps = 0;
+            if (!started) {
+                started = true;
+                Coordinate start = new Coordinate(1, 1);
+                carveCell(start.row(), start.col());
+                stack.push(start);
+                steps++;
+            }
 
-        // Основной цикл генерации
-        while (!stack.isEmpty()) {
-            Coordinate current = stack.peek();
-            List<Coordinate> neighbors = getUnvisitedNeighbors(maze, current);
+            // Основной цикл генерации
+            while (steps < maxSteps && !stack.isEmpty()) {
+                steps++;
+                Coordinate current = stack.peek();
+                List<Coordinate> neighbors = getUnvisitedNeighbors(maze, current, random);
 
-            if (!neighbors.isEmpty()) {
-                // Выбираем случайного соседа и пробиваем стену
-                Coordinate chosen = neighbors.get(RandomUtils.nextInt(neighbors.size()));
-                maze.removeWall(current, chosen);
-                maze.getGrid()[chosen.row()][chosen.col()] = new Cell(chosen.row(), chosen.col(),
-                    Cell.Type.PASSAGE, maze.getRandomSurface());
-                stack.push(chosen);
-            } else {
-                // Если нет непосещенных соседей, возвращаемся назад
-                stack.pop();
+                if (!neighbors.isEmpty()) {
+                    // Выбираем случайного соседа и пробиваем стену
+                    Coordinate chosen = neighbors.get(random.nextInt(neighbors.size()));
+                    carveCell((current.row() + chosen.row()) / 2, (current.col() + chosen.col()) / 2);
+                    carveCell(chosen.row(), chosen.col());
+                    stack.push(chosen);
+                } else {
+                    // Если нет непосещенных соседей, возвращаемся назад
+                    stack.pop();
+                }
             }
+            return !stack.isEmpty();
         }
 
-        // Добавляем циклы для создания ветвлений в лабиринте
-        maze.addCycles();
+        @Override
+        public boolean isDone() {
+            return started && stack.isEmpty();
+        }
 
-        return maze;
+        private void carveCell(int row, int col) {
+            SurfaceType surface = maze.getRandomSurface(random);
+            maze.setPassage(row, col, surface);
+            listener.onCarve(row, col, surface);
+        }
     }
 
     /**
      * Находит непосещенных соседей для заданной клетки, отстоящих на расстоянии через стену.
      * @param maze текущий лабиринт
      * @param coord координаты текущей клетки
+     * @param random источник случайности
      * @return список координат соседних клеток
      */
-    private List<Coordinate> getUnvisitedNeighbors(Maze maze, Coordinate coord) {
+    private static List<Coordinate> getUnvisitedNeighbors(MazeGrid maze, Coordinate coord, MazeRandom random) {
         List<Coordinate> neighbors = new ArrayList<>();
         int[][] directions = {{-WALL_STEP, 0}, {WALL_STEP, 0}, {0, -WALL_STEP}, {0, WALL_STEP}};
 
         for (int[] dir : directions) {
             int newRow = coord.row() + dir[0];
             int newCol = coord.col() + dir[1];
-            if (maze.isInBounds(newRow, newCol) && maze.getGrid()[newRow][newCol].type() == Cell.Type.WALL) {
+            if (maze.isInBounds(newRow, newCol) && !maze.isPassage(newRow, newCol)) {
                 neighbors.add(new Coordinate(newRow, newCol));
             }
         }
 
-        RandomUtils.shuffleList(neighbors);
+        random.shuffle(neighbors);
         return neighbors;
     }
 }
@@ -0,0 +1,161 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Реализация генерации лабиринта методом рекурсивного деления.
+ * Камера логических клеток делится стеной с одним проходом на две независимые камеры,
+ * пока камеры не станут коридорами шириной в одну клетку. Сетка изначально состоит из стен,
+ * поэтому вместо возведения стен пробиваются проходы: коридоры целиком и по одному проходу в каждой стене деления.
+ * Крупные камеры делятся задачами {@link RecursiveAction} в {@link ForkJoinPool}, мелкие - последовательно.
+ * Каждая параллельно обрабатываемая камера получает поток случайности по своим границам,
+ * поэтому результат при одном seed не зависит от числа потоков.
+ * Сетка должна допускать одновременную запись в разные клетки из разных потоков.
+ */
+public class RecursiveDivisionGenerator implements Generator {
+
+    private static final int DEFAULT_CUTOFF = 1 << 12;  // Площадь камеры, ниже которой деление идет последовательно
+    private static final double VERTICAL_CHANCE = 0.5;  // Вероятность вертикального деления квадратной камеры
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    /**
+     * Создает генератор на общем пуле с порогом по умолчанию.
+     */
+    public RecursiveDivisionGenerator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Создает генератор.
+     *
+     * @param pool пул для параллельного деления
+     * @param cutoff площадь камеры в логических клетках, ниже которой деление идет последовательно
+     */
+    public RecursiveDivisionGenerator(ForkJoinPool pool, int cutoff) {
+        if (cutoff <= 0) {
+            throw new IllegalArgumentException("Порог должен быть положительным: " + cutoff);
+        }
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Строит лабиринт в переданной сетке методом рекурсивного деления.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        int rows = (maze.getHeight() - 1) / 2;
+        int cols = (maze.getWidth() - 1) / 2;
+        if (rows > 0 && cols > 0) {
+            pool.invoke(new DivideTask(maze, random, cutoff, 0, 0, rows, cols));
+        }
+    }
+
+    /**
+     * Задача деления камеры логических клеток [top, top + height) x [left, left + width).
+     */
+    private static final class DivideTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient MazeGrid maze;
+        private final transient MazeRandom root;
+        private final int cutoff;
+        private final int top;
+        private final int left;
+        private final int height;
+        private final int width;
+
+        DivideTask(MazeGrid maze, MazeRandom root, int cutoff, int top, int left, int height, int width) {
+            this.maze = maze;
+            this.root = root;
+            this.cutoff = cutoff;
+            this.top = top;
+            this.left = left;
+            this.height = height;
+            this.width = width;
+        }
+
+        @Override
+        protected void compute() {
+            // Поток случайности зависит только от границ камеры, а не от потока, который ее обрабатывает
+            long chamber = MazeRandom.mix((long) top << Integer.SIZE | left) + ((long) height << Integer.SIZE | width);
+            MazeRandom random = root.forStream(chamber);
+            if ((long) height * width <= cutoff || height == 1 || width == 1) {
+                divide(maze, random, top, left, height, width);
+                return;
+            }
+            if (chooseVertical(height, width, random)) {
+                int split = 1 + random.nextInt(width - 1);
+                openVerticalGap(maze, random, top, left + split, height);
+                invokeAll(new DivideTask(maze, root, cutoff, top, left, height, split),
+                    new DivideTask(maze, root, cutoff, top, left + split, height, width - split));
+            } else {
+                int split = 1 + random.nextInt(height - 1);
+                openHorizontalGap(maze, random, top + split, left, width);
+                invokeAll(new DivideTask(maze, root, cutoff, top, left, split, width),
+                    new DivideTask(maze, root, cutoff, top + split, left, height - split, width));
+            }
+        }
+    }
+
+    // Последовательное деление камеры
+    private static void divide(MazeGrid maze, MazeRandom random, int top, int left, int height, int width) {
+        if (height == 1 || width == 1) {
+            openCorridor(maze, random, top, left, height, width);
+            return;
+        }
+        if (chooseVertical(height, width, random)) {
+            int split = 1 + random.nextInt(width - 1);
+            openVerticalGap(maze, random, top, left + split, height);
+            divide(maze, random, top, left, height, split);
+            divide(maze, random, top, left + split, height, width - split);
+        } else {
+            int split = 1 + random.nextInt(height - 1);
+            openHorizontalGap(maze, random, top + split, left, width);
+            divide(maze, random, top, left, split, width);
+            divide(maze, random, top + split, left, height - split, width);
+        }
+    }
+
+    // Широкие камеры делятся вертикально, высокие - горизонтально, квадратные - случайно
+    private static boolean chooseVertical(int height, int width, MazeRandom random) {
+        if (width != height) {
+            return width > height;
+        }
+        return random.chance(VERTICAL_CHANCE);
+    }
+
+    // Проход в вертикальной стене слева от логического столбца col
+    private static void openVerticalGap(MazeGrid maze, MazeRandom random, int top, int col, int height) {
+        int row = top + random.nextInt(height);
+        maze.setPassage(2 * row + 1, 2 * col, maze.getRandomSurface(random));
+    }
+
+    // Проход в горизонтальной стене над логической строкой row
+    private static void openHorizontalGap(MazeGrid maze, MazeRandom random, int row, int left, int width) {
+        int col = left + random.nextInt(width);
+        maze.setPassage(2 * row, 2 * col + 1, maze.getRandomSurface(random));
+    }
+
+    // Камера шириной или высотой в одну клетку открывается целиком
+    private static void openCorridor(MazeGrid maze, MazeRandom random, int top, int left, int height, int width) {
+        int firstRow = 2 * top + 1;
+        int firstCol = 2 * left + 1;
+        int lastRow = 2 * (top + height) - 1;
+        int lastCol = 2 * (left + width) - 1;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                maze.setPassage(row, col, maze.getRandomSurface(random));
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Основа для генераторов, строящих каждую строку лабиринта независимо от остальных.
+ * Строки обрабатываются параллельным потоком, каждая со своим потоком случайности {@link MazeRandom#forStream(long)},
+ * поэтому результат при одном seed не зависит от числа потоков и порядка обработки строк.
+ * Строка пробивает только свои клетки, стены между ними и стены над ними,
+ * так что разные строки пишут в разные клетки. В параллельном режиме сетка должна
+ * допускать одновременную запись в разные клетки из разных потоков.
+ */
+public abstract class RowParallelGenerator implements Generator {
+
+    private final boolean parallel;
+
+    /**
+     * Создает генератор.
+     *
+     * @param parallel обрабатывать ли строки параллельно
+     */
+    protected RowParallelGenerator(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Строит лабиринт, обрабатывая логические строки независимо.
+     * @param maze сетка лабиринта нечетного размера
+     * @param random источник случайности
+     */
+    @Override
+    public void carve(MazeGrid maze, MazeRandom random) {
+        int rows = (maze.getHeight() - 1) / 2;
+        int cols = (maze.getWidth() - 1) / 2;
+        if (cols == 0) {
+            return;
+        }
+        IntStream stream = IntStream.range(0, rows);
+        if (parallel) {
+            stream = stream.parallel();
+        }
+        stream.forEach(row -> carveRow(maze, row, cols, random.forStream(row)));
+    }
+
+    /**
+     * Пробивает клетки логической строки, проходы между ними и проходы в предыдущую строку.
+     *
+     * @param maze сетка лабиринта
+     * @param row номер логической строки
+     * @param cols число логических клеток в строке
+     * @param random поток случайности этой строки
+     */
+    protected abstract void carveRow(MazeGrid maze, int row, int cols, MazeRandom random);
+
+    /**
+     * Пробивает логическую клетку.
+     *
+     * @param maze сетка лабиринта
+     * @param row логическая строка
+     * @param col логический столбец
+     * @param random источник случайности
+     */
+    protected static void openCell(MazeGrid maze, int row, int col, MazeRandom random) {
+        maze.setPassage(2 * row + 1, 2 * col + 1, maze.getRandomSurface(random));
+    }
+
+    /**
+     * Пробивает стену справа от логической клетки.
+     *
+     * @param maze сетка лабиринта
+     * @param row логическая строка
+     * @param col логический столбец
+     * @param random источник случайности
+     */
+    protected static void openEast(MazeGrid maze, int row, int col, MazeRandom random) {
+        maze.setPassage(2 * row + 1, 2 * col + 2, maze.getRandomSurface(random));
+    }
+
+    /**
+     * Пробивает стену над логической клеткой.
+     *
+     * @param maze сетка лабиринта
+     * @param row логическая строка
+     * @param col логический столбец
+     * @param random источник случайности
+     */
+    protected static void openNorth(MazeGrid maze, int row, int col, MazeRandom random) {
+        maze.setPassage(2 * row, 2 * col + 1, maze.getRandomSurface(random));
+    }
+}
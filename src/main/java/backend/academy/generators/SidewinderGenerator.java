@@ -0,0 +1,48 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Реализация генерации лабиринта алгоритмом Sidewinder.
+ * Строка делится на горизонтальные отрезки, и из каждого отрезка пробивается
+ * один проход вверх в случайной клетке. Строки строятся независимо и параллельно,
+ * а лабиринт получается менее однородным, чем у алгоритма двоичного дерева:
+ * сплошным коридором остается только верхняя строка.
+ */
+public class SidewinderGenerator extends RowParallelGenerator {
+
+    private static final double CLOSE_RUN_CHANCE = 0.5;  // Вероятность завершить отрезок в текущей клетке
+
+    /**
+     * Создает генератор, обрабатывающий строки параллельно.
+     */
+    public SidewinderGenerator() {
+        this(true);
+    }
+
+    /**
+     * Создает генератор.
+     *
+     * @param parallel обрабатывать ли строки параллельно
+     */
+    public SidewinderGenerator(boolean parallel) {
+        super(parallel);
+    }
+
+    @Override
+    protected void carveRow(MazeGrid maze, int row, int cols, MazeRandom random) {
+        int runStart = 0;
+        for (int col = 0; col < cols; col++) {
+            openCell(maze, row, col, random);
+            boolean atEastWall = col == cols - 1;
+            // Верхняя строка - один сплошной отрезок, иначе из нее некуда выйти вверх
+            if (row > 0 && (atEastWall || random.chance(CLOSE_RUN_CHANCE))) {
+                openNorth(maze, row, runStart + random.nextInt(col - runStart + 1), random);
+                runStart = col + 1;
+            } else if (!atEastWall) {
+                openEast(maze, row, col, random);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package backend.academy.interfaces;
+
+/**
+ * Курсор пошаговой генерации лабиринта.
+ * Каждый вызов {@link #advance(int)} выполняет не больше заданного числа шагов алгоритма,
+ * каждый из которых занимает O(1) времени, поэтому вызывающий код может чередовать генерацию
+ * с вводом-выводом или отрисовкой, не получая долгих пауз даже на очень больших лабиринтах.
+ * Курсор не потокобезопасен.
+ */
+public interface CarveCursor {
+
+    /**
+     * Выполняет не больше maxSteps шагов генерации.
+     *
+     * @param maxSteps наибольшее число шагов, положительное
+     * @return true, если генерация еще не завершена
+     */
+    boolean advance(int maxSteps);
+
+    /**
+     * Проверяет, завершена ли генерация.
+     *
+     * @return true, если лабиринт построен полностью
+     */
+    boolean isDone();
+
+    /**
+     * Выполняет генерацию до конца.
+     */
+    default void finish() {
+        while (!isDone()) {
+            advance(Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package backend.academy.interfaces;
+
+import backend.academy.models.SurfaceType;
+
+/**
+ * Получатель событий пошаговой генерации.
+ * Вызывается каждый раз, когда генератор делает клетку сетки проходом,
+ * что позволяет передавать прогресс клиенту или отрисовывать лабиринт по ходу построения.
+ */
+@FunctionalInterface
+public interface CarveListener {
+
+    /**
+     * Получатель, игнорирующий события.
+     */
+    CarveListener NONE = (row, col, surface) -> { };
+
+    /**
+     * Сообщает, что клетка стала проходом.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param surface поверхность прохода
+     */
+    void onCarve(int row, int col, SurfaceType surface);
+}
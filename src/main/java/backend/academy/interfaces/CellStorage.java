@@ -0,0 +1,75 @@
+package backend.academy.interfaces;
+
+/**
+ * Хранилище упакованных клеток лабиринта (см. {@link backend.academy.models.CellCodec}).
+ * Позволяет держать сетку в куче, вне кучи или в отображенном в память файле.
+ * Координаты проверяет вызывающий код, поэтому реализации могут не проверять границы повторно.
+ */
+public interface CellStorage extends AutoCloseable {
+
+    /**
+     * Возвращает высоту сетки.
+     *
+     * @return высота сетки
+     */
+    int getHeight();
+
+    /**
+     * Возвращает ширину сетки.
+     *
+     * @return ширина сетки
+     */
+    int getWidth();
+
+    /**
+     * Читает упакованную клетку.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return упакованное значение клетки
+     */
+    byte get(int row, int col);
+
+    /**
+     * Записывает упакованную клетку.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param packed упакованное значение клетки
+     */
+    void set(int row, int col, byte packed);
+
+    /**
+     * Копирует строку упакованных клеток в массив.
+     *
+     * @param row строка сетки
+     * @param target массив, в который копируются клетки
+     * @param offset позиция в массиве для первой клетки строки
+     */
+    default void readRow(int row, byte[] target, int offset) {
+        for (int col = 0; col < getWidth(); col++) {
+            target[offset + col] = get(row, col);
+        }
+    }
+
+    /**
+     * Записывает строку упакованных клеток из массива.
+     *
+     * @param row строка сетки
+     * @param source массив с клетками
+     * @param offset позиция в массиве первой клетки строки
+     */
+    default void writeRow(int row, byte[] source, int offset) {
+        for (int col = 0; col < getWidth(); col++) {
+            set(row, col, source[offset + col]);
+        }
+    }
+
+    /**
+     * Освобождает ресурсы хранилища. После закрытия обращаться к клеткам нельзя.
+     */
+    @Override
+    default void close() {
+        // Хранилищу в куче освобождать нечего
+    }
+}
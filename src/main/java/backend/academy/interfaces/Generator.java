@@ -1,6 +1,9 @@
 package backend.academy.interfaces;
 
 import backend.academy.models.Maze;
+import backend.academy.models.MazeCycles;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Интерфейс для генераторов лабиринтов.
@@ -10,10 +13,58 @@ public interface Generator {
 
     /**
      * Генерирует лабиринт с указанной высотой и шириной.
+     * Четные размеры увеличиваются до нечетных, после построения в лабиринт добавляются циклы.
      *
      * @param height высота лабиринта
      * @param width ширина лабиринта
      * @return сгенерированный лабиринт
      */
-    Maze generate(int height, int width);
+    default Maze generate(int height, int width) {
+        return generate(height, width, new MazeRandom());
+    }
+
+    /**
+     * Генерирует лабиринт, используя заданный источник случайности.
+     * Один и тот же seed источника дает один и тот же лабиринт.
+     * Циклы добавляются отдельным проходом по полосам строк в общем пуле потоков.
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param random источник случайности
+     * @return сгенерированный лабиринт
+     */
+    default Maze generate(int height, int width, MazeRandom random) {
+        Maze maze = new Maze(toOdd(height), toOdd(width));
+        carve(maze, random);
+        MazeCycles.addCycles(maze, random, ForkJoinPool.commonPool());
+        return maze;
+    }
+
+    /**
+     * Строит идеальный лабиринт (без циклов) в переданной сетке нечетного размера,
+     * изначально состоящей только из стен.
+     *
+     * @param grid сетка, в которой пробиваются проходы
+     */
+    default void carve(MazeGrid grid) {
+        carve(grid, new MazeRandom());
+    }
+
+    /**
+     * Строит идеальный лабиринт, используя заданный источник случайности.
+     *
+     * @param grid сетка, в которой пробиваются проходы
+     * @param random источник случайности
+     */
+    void carve(MazeGrid grid, MazeRandom random);
+
+    /**
+     * Приводит размер лабиринта к нечетному для корректной генерации.
+     *
+     * @param size исходный размер
+     * @return нечетный размер
+     */
+    static int toOdd(int size) {
+        return size % 2 == 0 ? size + 1 : size;
+    }
 }
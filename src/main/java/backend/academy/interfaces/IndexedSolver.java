@@ -0,0 +1,21 @@
+package backend.academy.interfaces;
+
+import backend.academy.models.IntPath;
+
+/**
+ * Интерфейс для решения лабиринтов без создания объектов координат.
+ * Клетки задаются индексами {@code row * width + col}, путь записывается в переданный буфер.
+ */
+public interface IndexedSolver {
+
+    /**
+     * Решает лабиринт, находя путь между клетками с заданными индексами.
+     *
+     * @param maze лабиринт для решения
+     * @param start индекс начальной клетки
+     * @param end индекс конечной клетки
+     * @param path буфер для найденного пути, очищается, если путь не найден
+     * @return true, если путь найден
+     */
+    boolean solve(MazeGrid maze, int start, int end, IntPath path);
+}
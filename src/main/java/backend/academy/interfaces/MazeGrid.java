@@ -0,0 +1,154 @@
+package backend.academy.interfaces;
+
+import backend.academy.models.Cell;
+import backend.academy.models.CellCodec;
+import backend.academy.models.Coordinate;
+import backend.academy.models.MazeCycles;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Интерфейс доступа к клеткам лабиринта.
+ * Через него генераторы пробивают проходы, а решатели и отрисовщики читают сетку,
+ * не завися от того, как лабиринт хранится в памяти.
+ */
+public interface MazeGrid {
+
+    /**
+     * Возвращает высоту лабиринта.
+     *
+     * @return высота лабиринта
+     */
+    int getHeight();
+
+    /**
+     * Возвращает ширину лабиринта.
+     *
+     * @return ширина лабиринта
+     */
+    int getWidth();
+
+    /**
+     * Проверяет, является ли клетка проходом.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return true, если клетка является проходом
+     */
+    boolean isPassage(int row, int col);
+
+    /**
+     * Возвращает тип поверхности клетки.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return тип поверхности
+     */
+    SurfaceType getSurface(int row, int col);
+
+    /**
+     * Делает клетку проходом с заданной поверхностью.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param surface тип поверхности
+     */
+    void setPassage(int row, int col, SurfaceType surface);
+
+    /**
+     * Возвращает тип клетки.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return тип клетки
+     */
+    default Cell.Type getType(int row, int col) {
+        return isPassage(row, col) ? Cell.Type.PASSAGE : Cell.Type.WALL;
+    }
+
+    /**
+     * Возвращает индекс клетки для решателей, работающих без объектов координат.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return индекс {@code row * width + col}
+     */
+    default int toIndex(int row, int col) {
+        return row * getWidth() + col;
+    }
+
+    /**
+     * Копирует строку клеток в упакованном виде (см. {@link CellCodec}).
+     *
+     * @param row строка сетки
+     * @param target массив длиной не меньше ширины лабиринта
+     */
+    default void readRow(int row, byte[] target) {
+        for (int col = 0; col < getWidth(); col++) {
+            target[col] = isPassage(row, col) ? CellCodec.passage(getSurface(row, col)) : CellCodec.WALL;
+        }
+    }
+
+    /**
+     * Проверяет, находится ли клетка внутри лабиринта (не на внешней стене).
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return true, если клетка в пределах лабиринта
+     */
+    default boolean isInBounds(int row, int col) {
+        return row > 0 && row < getHeight() - 1 && col > 0 && col < getWidth() - 1;
+    }
+
+    /**
+     * Возвращает случайный тип поверхности для клетки на основе вероятностей.
+     *
+     * @param random источник случайности
+     * @return случайный тип поверхности
+     */
+    default SurfaceType getRandomSurface(MazeRandom random) {
+        return getSurfaceForChance(random.nextInt(SurfaceType.CHANCE_RANGE));
+    }
+
+    /**
+     * Возвращает тип поверхности для уже выбранного случайного значения.
+     * Генераторы, которые берут значение из заранее полученных случайных битов,
+     * вызывают этот метод вместо {@link #getRandomSurface}; сетки, задающие поверхности сами,
+     * переопределяют оба метода.
+     *
+     * @param chance случайное значение от 0 до {@link SurfaceType#CHANCE_RANGE} - 1
+     * @return тип поверхности
+     */
+    default SurfaceType getSurfaceForChance(int chance) {
+        return SurfaceType.fromChance(chance);
+    }
+
+    /**
+     * Пробивает стену между двумя соседними клетками.
+     *
+     * @param current первая клетка
+     * @param chosen вторая клетка
+     * @param random источник случайности для поверхности прохода
+     */
+    default void removeWall(Coordinate current, Coordinate chosen, MazeRandom random) {
+        int wallRow = (current.row() + chosen.row()) / 2;
+        int wallCol = (current.col() + chosen.col()) / 2;
+        setPassage(wallRow, wallCol, getRandomSurface(random));
+    }
+
+    /**
+     * Добавляет циклы в лабиринт, пробивая стены между проходами.
+     */
+    default void addCycles() {
+        addCycles(new MazeRandom());
+    }
+
+    /**
+     * Добавляет циклы в лабиринт, используя заданный источник случайности.
+     *
+     * @param random источник случайности
+     */
+    default void addCycles(MazeRandom random) {
+        MazeCycles.addCycles(this, random);
+    }
+}
@@ -1,7 +1,6 @@
 package backend.academy.interfaces;
 
 import backend.academy.models.Coordinate;
-import backend.academy.models.Maze;
 import java.util.List;
 
 /**
@@ -17,7 +16,7 @@ public interface Renderer {
      * @param maze лабиринт для отрисовки
      * @return строковое представление лабиринта
      */
-    String render(Maze maze);
+    String render(MazeGrid maze);
 
     /**
      * Визуализирует лабиринт с выделением пути.
@@ -26,7 +25,7 @@ public interface Renderer {
      * @param path список координат, представляющий путь
      * @return строковое представление лабиринта с выделенным путем
      */
-    String render(Maze maze, List<Coordinate> path);
+    String render(MazeGrid maze, List<Coordinate> path);
 
     /**
      * Визуализирует лабиринт с метками на клетках.
@@ -34,7 +33,7 @@ public interface Renderer {
      * @param maze лабиринт для отрисовки
      * @return строковое представление лабиринта с метками
      */
-    String renderWithLabels(Maze maze);
+    String renderWithLabels(MazeGrid maze);
 
     /**
      * Визуализирует лабиринт с обозначением стартовой и конечной точек.
@@ -44,7 +43,7 @@ public interface Renderer {
      * @param end конечная точка
      * @return строковое представление лабиринта с выделенными точками
      */
-    String renderWithPoints(Maze maze, Coordinate start, Coordinate end);
+    String renderWithPoints(MazeGrid maze, Coordinate start, Coordinate end);
 
     /**
      * Визуализирует лабиринт с выделением пути, стартовой и конечной точек.
@@ -55,5 +54,5 @@ public interface Renderer {
      * @param end конечная точка
      * @return строковое представление лабиринта с выделенным путем и точками
      */
-    String renderWithPathAndPoints(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end);
+    String renderWithPathAndPoints(MazeGrid maze, List<Coordinate> path, Coordinate start, Coordinate end);
 }
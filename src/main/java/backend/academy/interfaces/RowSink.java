@@ -0,0 +1,22 @@
+package backend.academy.interfaces;
+
+import backend.academy.models.CellCodec;
+import java.io.IOException;
+
+/**
+ * Приемник строк лабиринта для потоковой генерации.
+ * Строки передаются по порядку сверху вниз в упакованном виде (см. {@link CellCodec}).
+ */
+@FunctionalInterface
+public interface RowSink {
+
+    /**
+     * Принимает очередную строку лабиринта.
+     * Массив переиспользуется генератором, поэтому хранить ссылку на него после возврата нельзя.
+     *
+     * @param row номер строки
+     * @param cells упакованные клетки строки
+     * @throws IOException если приемник не смог сохранить строку
+     */
+    void acceptRow(int row, byte[] cells) throws IOException;
+}
@@ -1,7 +1,6 @@
 package backend.academy.interfaces;
 
 import backend.academy.models.Coordinate;
-import backend.academy.models.Maze;
 import java.util.List;
 
 /**
@@ -18,5 +17,5 @@ public interface Solver {
      * @param end конечная точка
      * @return список координат, представляющий найденный путь, или пустой список, если путь не найден
      */
-    List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end);
+    List<Coordinate> solve(MazeGrid maze, Coordinate start, Coordinate end);
 }
@@ -0,0 +1,27 @@
+package backend.academy.interfaces;
+
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Генератор, умеющий строить лабиринт по шагам через {@link CarveCursor}.
+ * Обычное построение {@link #carve(MazeGrid, MazeRandom)} выполняет те же шаги без пауз,
+ * поэтому при одном seed пошаговая и обычная генерация дают одинаковый лабиринт.
+ */
+public interface SteppableGenerator extends Generator {
+
+    /**
+     * Создает курсор пошаговой генерации в переданной сетке.
+     * Сетка не изменяется до первого вызова {@link CarveCursor#advance(int)}.
+     *
+     * @param grid сетка нечетного размера, изначально состоящая только из стен
+     * @param random источник случайности
+     * @param listener получатель событий о новых проходах
+     * @return курсор генерации
+     */
+    CarveCursor cursor(MazeGrid grid, MazeRandom random, CarveListener listener);
+
+    @Override
+    default void carve(MazeGrid grid, MazeRandom random) {
+        cursor(grid, random, CarveListener.NONE).finish();
+    }
+}
@@ -0,0 +1,234 @@
+package backend.academy.io;
+
+import backend.academy.models.CellCodec;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Потоковое чтение лабиринта в двоичном формате (см. {@link MazeFormat}).
+ * Заголовок читается при создании, затем строки возвращаются по одной в упакованном виде.
+ * После чтения последней строки проверяется контрольная сумма.
+ */
+public final class MazeFileReader implements Closeable {
+
+    private static final SurfaceType[] SURFACES = SurfaceType.values();
+    private static final int MAX_VARINT_SHIFT = Long.SIZE;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[MazeFormat.BUFFER_SIZE];
+    private final CRC32C checksum = new CRC32C();
+    private final int height;
+    private final int width;
+    private final MazeMetadata metadata;
+    private final byte[] wallMask;
+    private int position;
+    private int limit;
+    private int checksumMark;  // Начало еще не учтенных в контрольной сумме байтов буфера
+    private int rowsRead;
+
+    /**
+     * Создает читатель и читает заголовок файла.
+     *
+     * @param in поток для чтения
+     * @throws IOException если поток не содержит лабиринта или произошла ошибка чтения
+     */
+    public MazeFileReader(InputStream in) throws IOException {
+        this.in = in;
+        if (readInt() != MazeFormat.MAGIC) {
+            throw new IOException("Неверная сигнатура файла лабиринта");
+        }
+        int version = readByte();
+        if (version != MazeFormat.VERSION) {
+            throw new IOException("Неподдерживаемая версия формата лабиринта: " + version);
+        }
+        this.height = readInt();
+        this.width = readInt();
+        if (height < 0 || width < 0) {
+            throw new IOException("Недопустимый размер лабиринта: " + height + "x" + width);
+        }
+        long seed = readLong();
+        long nameLength = readVarint();
+        if (nameLength < 0 || nameLength > MazeFormat.MAX_NAME_BYTES) {
+            throw new IOException("Недопустимая длина имени генератора: " + nameLength);
+        }
+        byte[] name = new byte[(int) nameLength];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = (byte) readByte();
+        }
+        this.metadata = new MazeMetadata(seed, new String(name, StandardCharsets.UTF_8));
+        this.wallMask = new byte[MazeFormat.wallBytes(width)];
+        if (height == 0) {
+            verifyChecksum();
+        }
+    }
+
+    /**
+     * Читает лабиринт из файла целиком.
+     *
+     * @param file путь к файлу
+     * @return прочитанный лабиринт
+     * @throws IOException если файл поврежден или произошла ошибка чтения
+     */
+    public static Maze read(Path file) throws IOException {
+        try (MazeFileReader reader = new MazeFileReader(Files.newInputStream(file))) {
+            Maze maze = new Maze(reader.getHeight(), reader.getWidth());
+            byte[] row = new byte[reader.getWidth()];
+            for (int r = 0; r < reader.getHeight(); r++) {
+                reader.readRow(row);
+                maze.writeRow(r, row);
+            }
+            return maze;
+        }
+    }
+
+    /**
+     * Читает очередную строку лабиринта.
+     *
+     * @param row массив для упакованных клеток строки (см. {@link CellCodec}) длиной не меньше ширины
+     * @throws IOException если данные повреждены или произошла ошибка чтения
+     */
+    public void readRow(byte[] row) throws IOException {
+        if (rowsRead == height) {
+            throw new IllegalStateException("Все строки лабиринта уже прочитаны");
+        }
+        readFully(wallMask);
+        Arrays.fill(row, 0, width, CellCodec.WALL);
+        long run = 0;
+        byte passage = CellCodec.WALL;
+        for (int i = 0; i < wallMask.length; i++) {
+            // Перебираем только установленные биты маски - проходы
+            for (int bits = Byte.toUnsignedInt(wallMask[i]); bits != 0; bits &= bits - 1) {
+                int col = i * Byte.SIZE + Integer.numberOfTrailingZeros(bits);
+                if (col >= width) {
+                    throw new IOException("Проход за границей строки " + rowsRead);
+                }
+                if (run == 0) {
+                    long encoded = readVarint();
+                    int surface = (int) (encoded & MazeFormat.SURFACE_MASK);
+                    run = encoded >>> MazeFormat.SURFACE_BITS;
+                    if (surface >= SURFACES.length || run == 0) {
+                        throw new IOException("Поврежденная серия поверхностей в строке " + rowsRead);
+                    }
+                    passage = CellCodec.passage(SURFACES[surface]);
+                }
+                row[col] = passage;
+                run--;
+            }
+        }
+        if (run != 0) {
+            throw new IOException("Серия поверхностей выходит за строку " + rowsRead);
+        }
+        rowsRead++;
+        if (rowsRead == height) {
+            verifyChecksum();
+        }
+    }
+
+    /**
+     * Возвращает высоту лабиринта.
+     *
+     * @return высота лабиринта
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Возвращает ширину лабиринта.
+     *
+     * @return ширина лабиринта
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Возвращает сведения о происхождении лабиринта из заголовка.
+     *
+     * @return метаданные лабиринта
+     */
+    public MazeMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void verifyChecksum() throws IOException {
+        checksum.update(buffer, checksumMark, position - checksumMark);
+        int expected = (int) checksum.getValue();
+        checksumMark = Integer.MAX_VALUE;  // Байты контрольной суммы в нее не входят
+        if (readInt() != expected) {
+            throw new IOException("Контрольная сумма файла лабиринта не совпадает");
+        }
+    }
+
+    private void readFully(byte[] target) throws IOException {
+        int copied = 0;
+        while (copied < target.length) {
+            if (position == limit) {
+                fill();
+            }
+            int chunk = Math.min(target.length - copied, limit - position);
+            System.arraycopy(buffer, position, target, copied, chunk);
+            position += chunk;
+            copied += chunk;
+        }
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < MAX_VARINT_SHIFT; shift += MazeFormat.VARINT_SHIFT) {
+            int b = readByte();
+            value |= (long) (b & MazeFormat.VARINT_MASK) << shift;
+            if ((b & MazeFormat.VARINT_CONTINUE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Слишком длинное число varint");
+    }
+
+    private long readLong() throws IOException {
+        long high = readInt();
+        return high << Integer.SIZE | Integer.toUnsignedLong(readInt());
+    }
+
+    private int readInt() throws IOException {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = value << Byte.SIZE | readByte();
+        }
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        if (position == limit) {
+            fill();
+        }
+        return Byte.toUnsignedInt(buffer[position++]);
+    }
+
+    private void fill() throws IOException {
+        if (checksumMark < limit) {
+            checksum.update(buffer, checksumMark, limit - checksumMark);
+        }
+        int read = in.read(buffer);
+        if (read <= 0) {
+            throw new EOFException("Файл лабиринта неожиданно закончился");
+        }
+        position = 0;
+        limit = read;
+        checksumMark = checksumMark == Integer.MAX_VALUE ? Integer.MAX_VALUE : 0;
+    }
+}
@@ -0,0 +1,206 @@
+package backend.academy.io;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.interfaces.RowSink;
+import backend.academy.models.CellCodec;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+/**
+ * Потоковая запись лабиринта в двоичном формате (см. {@link MazeFormat}).
+ * Заголовок пишется при создании, затем строки передаются по одной в упакованном виде,
+ * поэтому записывать можно и лабиринты, которые целиком не хранятся в памяти.
+ * При закрытии дописывается контрольная сумма и закрывается исходный поток.
+ */
+public final class MazeFileWriter implements Closeable, RowSink {
+
+    private final OutputStream out;
+    private final int height;
+    private final int width;
+    private final byte[] buffer = new byte[MazeFormat.BUFFER_SIZE];
+    private final CRC32C checksum = new CRC32C();
+    private int position;
+    private int rowsWritten;
+
+    /**
+     * Создает писатель и записывает заголовок файла.
+     *
+     * @param out поток для записи
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param metadata сведения о происхождении лабиринта
+     * @throws IOException при ошибке записи
+     * @throws IllegalArgumentException если размер отрицателен или имя генератора длиннее 1024 байт в UTF-8
+     */
+    public MazeFileWriter(OutputStream out, int height, int width, MazeMetadata metadata) throws IOException {
+        byte[] name = checkHeader(height, width, metadata);
+        this.out = out;
+        this.height = height;
+        this.width = width;
+        writeInt(MazeFormat.MAGIC);
+        writeByte(MazeFormat.VERSION);
+        writeInt(height);
+        writeInt(width);
+        writeLong(metadata.seed());
+        writeVarint(name.length);
+        for (byte b : name) {
+            writeByte(b);
+        }
+    }
+
+    /**
+     * Записывает лабиринт в файл целиком.
+     *
+     * @param maze лабиринт
+     * @param metadata сведения о происхождении лабиринта
+     * @param file путь к файлу
+     * @throws IOException при ошибке записи
+     * @throws IllegalArgumentException если имя генератора длиннее 1024 байт в UTF-8; файл при этом не создается
+     */
+    public static void write(MazeGrid maze, MazeMetadata metadata, Path file) throws IOException {
+        // Заголовок проверяется до открытия файла, чтобы не оставить на диске пустой файл
+        checkHeader(maze.getHeight(), maze.getWidth(), metadata);
+        try (OutputStream out = Files.newOutputStream(file);
+            MazeFileWriter writer = new MazeFileWriter(out, maze.getHeight(), maze.getWidth(), metadata)) {
+            byte[] row = new byte[maze.getWidth()];
+            for (int r = 0; r < maze.getHeight(); r++) {
+                maze.readRow(r, row);
+                writer.writeRow(row);
+            }
+        }
+    }
+
+    /**
+     * Записывает очередную строку лабиринта.
+     *
+     * @param row упакованные клетки строки (см. {@link CellCodec}) длиной не меньше ширины
+     * @throws IOException при ошибке записи
+     */
+    public void writeRow(byte[] row) throws IOException {
+        if (rowsWritten == height) {
+            throw new IllegalStateException("Все строки лабиринта уже записаны");
+        }
+        writeWallMask(row);
+        writeSurfaceRuns(row);
+        rowsWritten++;
+    }
+
+    /**
+     * Записывает строку, полученную от потокового генератора.
+     *
+     * @param row номер строки, должен совпадать с числом уже записанных строк
+     * @param cells упакованные клетки строки
+     * @throws IOException при ошибке записи
+     */
+    @Override
+    public void acceptRow(int row, byte[] cells) throws IOException {
+        if (row != rowsWritten) {
+            throw new IllegalArgumentException("Ожидалась строка " + rowsWritten + ", получена " + row);
+        }
+        writeRow(cells);
+    }
+
+    /**
+     * Дописывает контрольную сумму и закрывает поток.
+     *
+     * @throws IOException если записаны не все строки или произошла ошибка записи
+     */
+    @Override
+    public void close() throws IOException {
+        try (OutputStream target = out) {
+            if (rowsWritten != height) {
+                throw new IOException("Записано " + rowsWritten + " строк из " + height);
+            }
+            flushBuffer();
+            writeInt((int) checksum.getValue());  // Сама контрольная сумма в нее не входит
+            target.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    // Возвращает имя генератора в UTF-8, если размер и имя можно записать в заголовок
+    private static byte[] checkHeader(int height, int width, MazeMetadata metadata) {
+        if (height < 0 || width < 0) {
+            throw new IllegalArgumentException("Недопустимый размер лабиринта: " + height + "x" + width);
+        }
+        byte[] name = metadata.generator().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MazeFormat.MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Имя генератора длиннее " + MazeFormat.MAX_NAME_BYTES
+                + " байт: " + name.length);
+        }
+        return name;
+    }
+
+    // Битовая маска проходов строки, младший бит байта соответствует левой клетке
+    private void writeWallMask(byte[] row) throws IOException {
+        for (int start = 0; start < width; start += Byte.SIZE) {
+            int bits = 0;
+            int end = Math.min(width, start + Byte.SIZE);
+            for (int col = start; col < end; col++) {
+                if (CellCodec.isPassage(row[col])) {
+                    bits |= 1 << (col - start);
+                }
+            }
+            writeByte(bits);
+        }
+    }
+
+    // Серии одинаковых поверхностей среди проходов строки
+    private void writeSurfaceRuns(byte[] row) throws IOException {
+        int current = -1;
+        long run = 0;
+        for (int col = 0; col < width; col++) {
+            if (!CellCodec.isPassage(row[col])) {
+                continue;
+            }
+            int surface = CellCodec.surfaceOf(row[col]).ordinal();
+            if (surface != current && run > 0) {
+                writeVarint(run << MazeFormat.SURFACE_BITS | current);
+                run = 0;
+            }
+            current = surface;
+            run++;
+        }
+        if (run > 0) {
+            writeVarint(run << MazeFormat.SURFACE_BITS | current);
+        }
+    }
+
+    private void writeVarint(long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~MazeFormat.VARINT_MASK) != 0) {
+            writeByte((int) (remaining & MazeFormat.VARINT_MASK) | MazeFormat.VARINT_CONTINUE);
+            remaining >>>= MazeFormat.VARINT_SHIFT;
+        }
+        writeByte((int) remaining);
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt((int) (value >>> Integer.SIZE));
+        writeInt((int) value);
+    }
+
+    private void writeInt(int value) throws IOException {
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            writeByte(value >>> shift);
+        }
+    }
+
+    private void writeByte(int value) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void flushBuffer() throws IOException {
+        checksum.update(buffer, 0, position);
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package backend.academy.io;
+
+/**
+ * Константы двоичного формата файла лабиринта.
+ *
+ * <p>Структура файла (целые числа в порядке big-endian):
+ * <ul>
+ *     <li>сигнатура {@code MAZE}, версия формата (1 байт);</li>
+ *     <li>высота и ширина (int), зерно генерации (long), длина имени генератора (varint,
+ *     не больше {@link #MAX_NAME_BYTES}) и имя в UTF-8;</li>
+ *     <li>для каждой строки: битовая маска проходов по ширине строки (бит 1 - проход),
+ *     затем серии одинаковых поверхностей проходов строки, каждая в виде varint {@code (длина << 3) | номер}.</li>
+ *     <li>контрольная сумма CRC32C всех предыдущих байтов (int).</li>
+ * </ul>
+ * Поверхности стен не сохраняются.
+ */
+final class MazeFormat {
+
+    static final int MAGIC = 0x4D415A45;  // "MAZE"
+    static final int VERSION = 1;
+    static final int SURFACE_BITS = 3;
+    static final int SURFACE_MASK = (1 << SURFACE_BITS) - 1;
+    static final int VARINT_SHIFT = 7;
+    static final int VARINT_MASK = 0x7F;
+    static final int VARINT_CONTINUE = 0x80;
+    static final int BUFFER_SIZE = 1 << 16;
+    static final int MAX_NAME_BYTES = 1 << 10;  // Наибольшая длина имени генератора в UTF-8
+
+    private MazeFormat() {
+
+    }
+
+    /**
+     * Возвращает количество байтов битовой маски проходов строки.
+     *
+     * @param width ширина лабиринта
+     * @return размер маски в байтах
+     */
+    static int wallBytes(int width) {
+        return (width + Byte.SIZE - 1) / Byte.SIZE;
+    }
+}
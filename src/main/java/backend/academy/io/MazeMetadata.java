@@ -0,0 +1,15 @@
+package backend.academy.io;
+
+/**
+ * Сведения о происхождении лабиринта, сохраняемые в заголовке файла.
+ *
+ * @param seed зерно генератора случайных чисел (0, если неизвестно)
+ * @param generator название алгоритма генерации
+ */
+public record MazeMetadata(long seed, String generator) {
+
+    /**
+     * Метаданные лабиринта неизвестного происхождения.
+     */
+    public static final MazeMetadata UNKNOWN = new MazeMetadata(0, "");
+}
@@ -0,0 +1,70 @@
+package backend.academy.models;
+
+/**
+ * Упаковка клетки лабиринта в один байт.
+ * Младший бит хранит тип клетки (0 - стена, 1 - проход), следующие биты - порядковый номер поверхности.
+ * Нулевой байт соответствует стене с обычной поверхностью, поэтому новый массив уже заполнен стенами.
+ */
+public final class CellCodec {
+
+    public static final byte WALL = 0;  // Упакованная стена с обычной поверхностью
+    public static final int PASSAGE_BIT = 1;  // Бит прохода, позволяет проверять клетки без вызова isPassage
+    private static final int SURFACE_SHIFT = 1;
+    private static final SurfaceType[] SURFACES = SurfaceType.values();
+
+    private CellCodec() {
+
+    }
+
+    /**
+     * Упаковывает тип и поверхность клетки в байт.
+     *
+     * @param type тип клетки
+     * @param surface тип поверхности
+     * @return упакованное значение клетки
+     */
+    public static byte pack(Cell.Type type, SurfaceType surface) {
+        int passage = type == Cell.Type.PASSAGE ? PASSAGE_BIT : 0;
+        return (byte) (surface.ordinal() << SURFACE_SHIFT | passage);
+    }
+
+    /**
+     * Упаковывает проход с заданной поверхностью.
+     *
+     * @param surface тип поверхности
+     * @return упакованное значение прохода
+     */
+    public static byte passage(SurfaceType surface) {
+        return (byte) (surface.ordinal() << SURFACE_SHIFT | PASSAGE_BIT);
+    }
+
+    /**
+     * Проверяет, является ли упакованная клетка проходом.
+     *
+     * @param packed упакованное значение клетки
+     * @return true, если клетка является проходом
+     */
+    public static boolean isPassage(byte packed) {
+        return (packed & PASSAGE_BIT) != 0;
+    }
+
+    /**
+     * Извлекает тип клетки из упакованного значения.
+     *
+     * @param packed упакованное значение клетки
+     * @return тип клетки
+     */
+    public static Cell.Type typeOf(byte packed) {
+        return isPassage(packed) ? Cell.Type.PASSAGE : Cell.Type.WALL;
+    }
+
+    /**
+     * Извлекает тип поверхности из упакованного значения.
+     *
+     * @param packed упакованное значение клетки
+     * @return тип поверхности
+     */
+    public static SurfaceType surfaceOf(byte packed) {
+        return SURFACES[Byte.toUnsignedInt(packed) >>> SURFACE_SHIFT];
+    }
+}
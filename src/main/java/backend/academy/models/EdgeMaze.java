@@ -0,0 +1,253 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.MazeGrid;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Компактное представление лабиринта в виде множества открытых ребер.
+ * Генераторы пробивают только клетки с нечетными координатами и стены между ними,
+ * поэтому вместо всей сетки хранятся три бита на логическую клетку: открыт ли проход на восток и на юг
+ * и пробита ли сама клетка.
+ * Клетки с четными координатами по обеим осям всегда являются стенами.
+ *
+ * <p>Логическая клетка (r, c) соответствует клетке сетки (2r + 1, 2c + 1). Она считается проходом,
+ * если она пробита или у нее открыто хотя бы одно ребро, поэтому генераторы могут сначала
+ * пробить все клетки, а потом соединять их, как алгоритмы Краскала и Эллера.
+ * Поверхности не хранятся: все проходы имеют обычную поверхность.
+ *
+ * <p>Биты соседних клеток лежат в общих словах {@code long}, поэтому биты устанавливаются атомарно:
+ * параллельные генераторы могут одновременно пробивать разные клетки и стены из разных потоков.
+ */
+public final class EdgeMaze implements MazeGrid {
+
+    // Биты маски смежности логической клетки
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int WEST = 4;
+    public static final int EAST = 8;
+
+    private static final int BITS_PER_CELL = 3;
+    private static final int SOUTH_OFFSET = 1;
+    private static final int CARVED_OFFSET = 2;
+    private static final int WORD_SHIFT = 6;  // 64 бита в слове long
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE << WORD_SHIFT;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int height;  // Высота сетки лабиринта
+    private final int width;   // Ширина сетки лабиринта
+    private final int rows;    // Количество логических строк
+    private final int cols;    // Количество логических столбцов
+    private final long[] edges;  // Биты логической клетки: ребра на восток и юг, пробита ли клетка
+
+    /**
+     * Создает лабиринт заданного размера, в котором все ребра закрыты.
+     *
+     * @param height высота сетки лабиринта (нечетная)
+     * @param width ширина сетки лабиринта (нечетная)
+     * @throws IllegalArgumentException если размеры четные, неположительные или слишком большие
+     */
+    public EdgeMaze(int height, int width) {
+        if (height <= 0 || width <= 0 || height % 2 == 0 || width % 2 == 0) {
+            throw new IllegalArgumentException("Размеры лабиринта должны быть положительными и нечетными: "
+                + height + "x" + width);
+        }
+        this.height = height;
+        this.width = width;
+        this.rows = (height - 1) / 2;
+        this.cols = (width - 1) / 2;
+        long bits = (long) rows * cols * BITS_PER_CELL;
+        if (bits > MAX_BITS) {
+            throw new IllegalArgumentException("Недопустимый размер лабиринта: " + height + "x" + width);
+        }
+        this.edges = new long[(int) ((bits + Long.SIZE - 1) >>> WORD_SHIFT)];
+    }
+
+    /**
+     * Возвращает маску открытых направлений логической клетки.
+     * Биты маски: {@link #NORTH}, {@link #SOUTH}, {@link #WEST}, {@link #EAST}.
+     *
+     * @param row логическая строка
+     * @param col логический столбец
+     * @return маска открытых направлений
+     */
+    public int adjacencyMask(int row, int col) {
+        long cell = logicalIndex(row, col);
+        int mask = 0;
+        if (row > 0 && testBit(bitOf(cell - cols) + SOUTH_OFFSET)) {
+            mask |= NORTH;
+        }
+        if (testBit(bitOf(cell) + SOUTH_OFFSET)) {
+            mask |= SOUTH;
+        }
+        if (col > 0 && testBit(bitOf(cell - 1))) {
+            mask |= WEST;
+        }
+        if (testBit(bitOf(cell))) {
+            mask |= EAST;
+        }
+        return mask;
+    }
+
+    /**
+     * Проверяет, открыт ли проход из логической клетки на восток.
+     *
+     * @param row логическая строка
+     * @param col логический столбец
+     * @return true, если проход открыт
+     */
+    public boolean isOpenEast(int row, int col) {
+        return testBit(bitOf(logicalIndex(row, col)));
+    }
+
+    /**
+     * Проверяет, открыт ли проход из логической клетки на юг.
+     *
+     * @param row логическая строка
+     * @param col логический столбец
+     * @return true, если проход открыт
+     */
+    public boolean isOpenSouth(int row, int col) {
+        return testBit(bitOf(logicalIndex(row, col)) + SOUTH_OFFSET);
+    }
+
+    /**
+     * Открывает проход из логической клетки на восток.
+     *
+     * @param row логическая строка
+     * @param col логический столбец (кроме последнего)
+     */
+    public void openEast(int row, int col) {
+        if (col >= cols - 1) {
+            throw new IllegalArgumentException("Нельзя открыть внешнюю стену: " + row + ", " + col);
+        }
+        setBit(bitOf(logicalIndex(row, col)));
+    }
+
+    /**
+     * Открывает проход из логической клетки на юг.
+     *
+     * @param row логическая строка (кроме последней)
+     * @param col логический столбец
+     */
+    public void openSouth(int row, int col) {
+        if (row >= rows - 1) {
+            throw new IllegalArgumentException("Нельзя открыть внешнюю стену: " + row + ", " + col);
+        }
+        setBit(bitOf(logicalIndex(row, col)) + SOUTH_OFFSET);
+    }
+
+    @Override
+    public boolean isPassage(int row, int col) {
+        checkBounds(row, col);
+        boolean oddRow = row % 2 == 1;
+        boolean oddCol = col % 2 == 1;
+        if (oddRow && oddCol) {
+            int logicalRow = row / 2;
+            int logicalCol = col / 2;
+            long cell = logicalIndex(logicalRow, logicalCol);
+            return testBit(bitOf(cell) + CARVED_OFFSET) || adjacencyMask(logicalRow, logicalCol) != 0;
+        } else if (oddRow) {
+            return isInBounds(row, col) && isOpenEast(row / 2, col / 2 - 1);
+        } else if (oddCol) {
+            return isInBounds(row, col) && isOpenSouth(row / 2 - 1, col / 2);
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает тип поверхности клетки. Представление не хранит поверхности,
+     * поэтому для любой клетки возвращается обычная поверхность.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return обычная поверхность
+     */
+    @Override
+    public SurfaceType getSurface(int row, int col) {
+        checkBounds(row, col);
+        return SurfaceType.NORMAL;
+    }
+
+    /**
+     * Делает клетку проходом. Для стены между логическими клетками открывается ребро,
+     * логическая клетка помечается пробитой.
+     * Поверхность игнорируется.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param surface тип поверхности (не сохраняется)
+     * @throws IllegalArgumentException если клетка лежит на внешней стене или на пересечении стен
+     */
+    @Override
+    public void setPassage(int row, int col, SurfaceType surface) {
+        checkBounds(row, col);
+        boolean oddRow = row % 2 == 1;
+        boolean oddCol = col % 2 == 1;
+        if (!isInBounds(row, col) || !oddRow && !oddCol) {
+            throw new IllegalArgumentException("Клетку нельзя сделать проходом: " + row + ", " + col);
+        }
+        if (oddRow && oddCol) {
+            setBit(bitOf(logicalIndex(row / 2, col / 2)) + CARVED_OFFSET);
+        } else if (oddRow) {
+            openEast(row / 2, col / 2 - 1);
+        } else {
+            openSouth(row / 2 - 1, col / 2);
+        }
+    }
+
+    // Возвращает индекс логической клетки
+    private long logicalIndex(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Логическая клетка вне лабиринта: " + row + ", " + col);
+        }
+        return (long) row * cols + col;
+    }
+
+    private static long bitOf(long cell) {
+        return cell * BITS_PER_CELL;
+    }
+
+    private boolean testBit(long bit) {
+        return (edges[(int) (bit >>> WORD_SHIFT)] & (1L << bit)) != 0;
+    }
+
+    // Атомарное ИЛИ: строки параллельного генератора пишут в общие слова на границе строк
+    private void setBit(long bit) {
+        WORDS.getAndBitwiseOr(edges, (int) (bit >>> WORD_SHIFT), 1L << bit);
+    }
+
+    private void checkBounds(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            throw new IndexOutOfBoundsException("Клетка вне лабиринта: " + row + ", " + col);
+        }
+    }
+
+    /**
+     * Возвращает количество логических строк.
+     *
+     * @return количество логических строк
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Возвращает количество логических столбцов.
+     *
+     * @return количество логических столбцов
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+}
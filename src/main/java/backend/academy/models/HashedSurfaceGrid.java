@@ -0,0 +1,99 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Лабиринт, в котором поверхности не хранятся, а вычисляются по хешу координат (см. {@link SurfaceHash}).
+ * Проходы хранятся во вложенной сетке, поверхность, переданная при пробивании прохода, игнорируется.
+ * Вместе с {@link EdgeMaze} дает лабиринт с поверхностями без единого байта на их хранение.
+ */
+public final class HashedSurfaceGrid implements MazeGrid {
+
+    private final MazeGrid passages;
+    private final SurfaceHash surfaces;
+
+    /**
+     * Создает лабиринт с вычисляемыми поверхностями.
+     *
+     * @param passages сетка, хранящая проходы
+     * @param seed начальное значение хеша поверхностей
+     */
+    public HashedSurfaceGrid(MazeGrid passages, long seed) {
+        this.passages = passages;
+        this.surfaces = new SurfaceHash(seed);
+    }
+
+    @Override
+    public int getHeight() {
+        return passages.getHeight();
+    }
+
+    @Override
+    public int getWidth() {
+        return passages.getWidth();
+    }
+
+    @Override
+    public boolean isPassage(int row, int col) {
+        return passages.isPassage(row, col);
+    }
+
+    /**
+     * Возвращает вычисленную поверхность прохода, для стен - обычную поверхность.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return тип поверхности
+     */
+    @Override
+    public SurfaceType getSurface(int row, int col) {
+        return passages.isPassage(row, col) ? surfaces.surfaceAt(row, col) : SurfaceType.NORMAL;
+    }
+
+    @Override
+    public void setPassage(int row, int col, SurfaceType surface) {
+        passages.setPassage(row, col, SurfaceType.NORMAL);
+    }
+
+    /**
+     * Поверхность все равно вычисляется по координатам, поэтому случайное значение не нужно
+     * и генератор случайных чисел при пробивании проходов не используется.
+     *
+     * @param random источник случайности, не используется
+     * @return обычная поверхность
+     */
+    @Override
+    public SurfaceType getRandomSurface(MazeRandom random) {
+        return SurfaceType.NORMAL;
+    }
+
+    /**
+     * Поверхность вычисляется по координатам, поэтому случайное значение не используется.
+     *
+     * @param chance случайное значение, не используется
+     * @return обычная поверхность
+     */
+    @Override
+    public SurfaceType getSurfaceForChance(int chance) {
+        return SurfaceType.NORMAL;
+    }
+
+    /**
+     * Возвращает сетку, хранящую проходы.
+     *
+     * @return вложенная сетка
+     */
+    public MazeGrid getPassages() {
+        return passages;
+    }
+
+    /**
+     * Возвращает начальное значение хеша поверхностей.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return surfaces.getSeed();
+    }
+}
@@ -0,0 +1,145 @@
+package backend.academy.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Путь в лабиринте в виде последовательности индексов клеток {@code row * width + col}.
+ * Объект можно переиспользовать между поисками: внутренний массив растет только при нехватке места,
+ * поэтому повторные решения не создают новых объектов.
+ */
+public final class IntPath {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int[] cells;
+    private int length;
+    private int width = 1;
+
+    /**
+     * Создает пустой путь с емкостью по умолчанию.
+     */
+    public IntPath() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой путь с заданной начальной емкостью.
+     *
+     * @param capacity начальная емкость
+     */
+    public IntPath(int capacity) {
+        this.cells = new int[capacity];
+    }
+
+    /**
+     * Задает длину пути и ширину лабиринта перед заполнением.
+     * Содержимое пути после вызова не определено до записи через {@link #set(int, int)}.
+     *
+     * @param newLength число клеток пути
+     * @param mazeWidth ширина лабиринта, по которой раскладываются индексы
+     */
+    public void resize(int newLength, int mazeWidth) {
+        if (newLength > cells.length) {
+            cells = new int[Math.max(newLength, cells.length * 2)];
+        }
+        this.length = newLength;
+        this.width = mazeWidth;
+    }
+
+    /**
+     * Очищает путь.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    /**
+     * Записывает индекс клетки в заданную позицию пути.
+     *
+     * @param position позиция в пути
+     * @param cell индекс клетки
+     */
+    public void set(int position, int cell) {
+        cells[checkPosition(position)] = cell;
+    }
+
+    /**
+     * Возвращает индекс клетки в заданной позиции пути.
+     *
+     * @param position позиция в пути
+     * @return индекс клетки {@code row * width + col}
+     */
+    public int get(int position) {
+        return cells[checkPosition(position)];
+    }
+
+    /**
+     * Возвращает строку клетки в заданной позиции пути.
+     *
+     * @param position позиция в пути
+     * @return строка клетки
+     */
+    public int row(int position) {
+        return get(position) / width;
+    }
+
+    /**
+     * Возвращает столбец клетки в заданной позиции пути.
+     *
+     * @param position позиция в пути
+     * @return столбец клетки
+     */
+    public int col(int position) {
+        return get(position) % width;
+    }
+
+    /**
+     * Возвращает число клеток пути.
+     *
+     * @return длина пути
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Проверяет, пуст ли путь.
+     *
+     * @return true, если путь не содержит клеток
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Копирует индексы клеток пути в новый массив.
+     *
+     * @return массив индексов
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(cells, length);
+    }
+
+    /**
+     * Преобразует путь в список координат.
+     *
+     * @return список координат клеток пути
+     */
+    public List<Coordinate> toCoordinates() {
+        List<Coordinate> path = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            path.add(new Coordinate(row(i), col(i)));
+        }
+        return path;
+    }
+
+    // Проверяет, что позиция лежит внутри пути
+    private int checkPosition(int position) {
+        if (position < 0 || position >= length) {
+            throw new IndexOutOfBoundsException("Позиция вне пути: " + position);
+        }
+        return position;
+    }
+}
@@ -1,135 +1,184 @@
 package backend.academy.models;
 
-import backend.academy.utils.RandomUtils;
+import backend.academy.interfaces.CellStorage;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.storage.HeapCellStorage;
 
 /**
  * Лабиринт, состоящий из клеток. Содержит методы генерации и настройки лабиринта.
+ * Клетки хранятся в упакованном виде по байту на клетку (см. {@link CellCodec}) в хранилище
+ * {@link CellStorage}, а объекты {@link Cell} создаются только по запросу через {@link #getCell(int, int)}.
+ * По умолчанию используется хранилище в куче; для лабиринтов больше кучи можно передать хранилище вне кучи.
  */
-public final class Maze {
+public final class Maze implements MazeGrid {
     private final int height;  // Высота лабиринта
     private final int width;   // Ширина лабиринта
-    private final Cell[][] grid;  // Сетка клеток лабиринта
-
-    // Вероятности различных поверхностей
-    private static final int SWAMP_CHANCE = 5;
-    private static final int SAND_CHANCE = 15;
-    private static final int COIN_CHANCE = 20;
-    private static final int ROAD_CHANCE = 30;
-    private static final int MAX_CHANCE = 100;
-    private static final double CYCLE_CHANCE = 0.1;  // Вероятность добавления цикла
+    private final CellStorage cells;  // Упакованные клетки лабиринта
 
     /**
      * Создает лабиринт заданного размера с начальной установкой всех клеток как стены.
      *
      * @param height высота лабиринта
      * @param width ширина лабиринта
+     * @throws IllegalArgumentException если размеры отрицательны или лабиринт не помещается в массив
      */
     public Maze(int height, int width) {
-        this.height = height;
-        this.width = width;
-        this.grid = new Cell[height][width];
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                grid[row][col] = new Cell(row, col, Cell.Type.WALL, SurfaceType.NORMAL);
-            }
-        }
+        this(new HeapCellStorage(height, width));
     }
 
     /**
-     * Возвращает случайный тип поверхности для клетки на основе вероятностей.
+     * Создает лабиринт поверх готового хранилища клеток.
+     * Закрывать хранилище после работы с лабиринтом должен вызывающий код.
      *
-     * @return случайный тип поверхности
+     * @param storage хранилище клеток
      */
-    public SurfaceType getRandomSurface() {
-        int chance = RandomUtils.nextInt(MAX_CHANCE);
-        SurfaceType surfaceType = SurfaceType.NORMAL;
-
-        if (chance < SWAMP_CHANCE) {
-            surfaceType = SurfaceType.SWAMP;
-        } else if (chance < SAND_CHANCE) {
-            surfaceType = SurfaceType.SAND;
-        } else if (chance < COIN_CHANCE) {
-            surfaceType = SurfaceType.COIN;
-        } else if (chance < ROAD_CHANCE) {
-            surfaceType = SurfaceType.ROAD;
-        }
+    public Maze(CellStorage storage) {
+        this.height = storage.getHeight();
+        this.width = storage.getWidth();
+        this.cells = storage;
+    }
 
-        return surfaceType;
+    /**
+     * Возвращает клетку по координатам. Объект клетки создается при каждом вызове,
+     * поэтому в циклах по всей сетке лучше использовать {@link #getType} и {@link #getSurface}.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return представление клетки
+     */
+    public Cell getCell(int row, int col) {
+        checkBounds(row, col);
+        byte packed = cells.get(row, col);
+        return new Cell(row, col, CellCodec.typeOf(packed), CellCodec.surfaceOf(packed));
     }
 
     /**
-     * Пробивает стену между двумя соседними клетками.
+     * Возвращает тип клетки.
      *
-     * @param current первая клетка
-     * @param chosen вторая клетка
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return тип клетки
      */
-    public void removeWall(Coordinate current, Coordinate chosen) {
-        int wallRow = (current.row() + chosen.row()) / 2;
-        int wallCol = (current.col() + chosen.col()) / 2;
-        grid[wallRow][wallCol] = new Cell(wallRow, wallCol, Cell.Type.PASSAGE, getRandomSurface());
+    @Override
+    public Cell.Type getType(int row, int col) {
+        checkBounds(row, col);
+        return CellCodec.typeOf(cells.get(row, col));
     }
 
     /**
-     * Проверяет, находится ли клетка в пределах лабиринта.
+     * Проверяет, является ли клетка проходом.
      *
      * @param row строка клетки
      * @param col столбец клетки
-     * @return true, если клетка в пределах лабиринта
+     * @return true, если клетка является проходом
      */
-    public boolean isInBounds(int row, int col) {
-        return row > 0 && row < height - 1 && col > 0 && col < width - 1;
+    @Override
+    public boolean isPassage(int row, int col) {
+        checkBounds(row, col);
+        return CellCodec.isPassage(cells.get(row, col));
     }
 
     /**
-     * Добавляет циклы в лабиринт, пробивая стены между проходами.
+     * Возвращает тип поверхности клетки.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return тип поверхности
      */
-    public void addCycles() {
-        for (int row = 1; row < height - 1; row++) {
-            for (int col = 1; col < width - 1; col++) {
-                if (isWallBetweenPassages(row, col) && shouldCreateCycle()) {
-                    if (canCreateCycle(row, col)) {
-                        grid[row][col] = new Cell(row, col, Cell.Type.PASSAGE, getRandomSurface());
-                    }
-                }
-            }
-        }
+    @Override
+    public SurfaceType getSurface(int row, int col) {
+        checkBounds(row, col);
+        return CellCodec.surfaceOf(cells.get(row, col));
     }
 
-    // Проверяет, является ли клетка стеной между проходами
-    private boolean isWallBetweenPassages(int row, int col) {
-        return grid[row][col].type() == Cell.Type.WALL
-            && ((row % 2 == 1 && col % 2 == 0) || (row % 2 == 0 && col % 2 == 1));
+    /**
+     * Задает тип и поверхность клетки.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param type тип клетки
+     * @param surface тип поверхности
+     */
+    public void setCell(int row, int col, Cell.Type type, SurfaceType surface) {
+        checkBounds(row, col);
+        cells.set(row, col, CellCodec.pack(type, surface));
     }
 
-    // Определяет, должна ли стена быть пробита для создания цикла
-    private boolean shouldCreateCycle() {
-        return RandomUtils.chance(CYCLE_CHANCE);
+    /**
+     * Делает клетку проходом с заданной поверхностью.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param surface тип поверхности
+     */
+    @Override
+    public void setPassage(int row, int col, SurfaceType surface) {
+        checkBounds(row, col);
+        cells.set(row, col, CellCodec.passage(surface));
+    }
+
+    @Override
+    public void readRow(int row, byte[] target) {
+        checkBounds(row, 0);
+        cells.readRow(row, target, 0);
+    }
+
+    /**
+     * Записывает строку клеток в упакованном виде (см. {@link CellCodec}).
+     *
+     * @param row строка сетки
+     * @param source массив длиной не меньше ширины лабиринта
+     */
+    public void writeRow(int row, byte[] source) {
+        checkBounds(row, 0);
+        cells.writeRow(row, source, 0);
+    }
+
+    /**
+     * Создает неизменяемый снимок текущего состояния лабиринта.
+     * Снимок можно без синхронизации передавать любому числу потоков-решателей,
+     * дальнейшие изменения лабиринта на него не влияют.
+     *
+     * @return снимок лабиринта
+     */
+    public MazeSnapshot freeze() {
+        return new MazeSnapshot(height, width, copyCells(), 0);
+    }
+
+    // Копирует все упакованные клетки в плотный массив построчно
+    byte[] copyCells() {
+        if ((long) height * width > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Лабиринт слишком велик для копирования в массив");
+        }
+        byte[] copy = new byte[height * width];
+        for (int row = 0; row < height; row++) {
+            cells.readRow(row, copy, row * width);
+        }
+        return copy;
     }
 
-    // Проверяет, возможно ли создание цикла путем пробития стены
-    private boolean canCreateCycle(int row, int col) {
-        int passages = 0;
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            if (grid[newRow][newCol].type() == Cell.Type.PASSAGE) {
-                passages++;
-            }
+    // Заполняет лабиринт клетками из плотного массива
+    void loadCells(byte[] source) {
+        for (int row = 0; row < height; row++) {
+            cells.writeRow(row, source, row * width);
+        }
+    }
+
+    // Проверяет, что клетка лежит внутри сетки
+    private void checkBounds(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            throw new IndexOutOfBoundsException("Клетка вне лабиринта: " + row + ", " + col);
         }
-        return passages == 2;
     }
 
-    // Геттеры для получения размеров лабиринта и сетки клеток
+    // Геттеры для получения размеров лабиринта
+    @Override
     public int getHeight() {
         return height;
     }
 
+    @Override
     public int getWidth() {
         return width;
     }
-
-    public Cell[][] getGrid() {
-        return grid;
-    }
 }
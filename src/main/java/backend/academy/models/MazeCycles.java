@@ -0,0 +1,100 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Добавление циклов в сгенерированный лабиринт.
+ * Работает с любым представлением лабиринта через {@link MazeGrid}.
+ * Сетка обрабатывается полосами строк, каждая со своим потоком случайности,
+ * поэтому последовательный и параллельный режимы дают одинаковый результат.
+ * Стены между клетками никогда не соседствуют друг с другом, так что пробитие стены
+ * в одной полосе не влияет на проверку стен в другой.
+ */
+public final class MazeCycles {
+
+    public static final double CYCLE_CHANCE = 0.1;  // Вероятность добавления цикла
+
+    private static final int SIGN_SHIFT = Integer.SIZE - 1;
+
+    private MazeCycles() {
+
+    }
+
+    /**
+     * Добавляет циклы в лабиринт, пробивая стены между проходами.
+     * Каждая стена между клетками пробивается с вероятностью {@link #CYCLE_CHANCE}.
+     * Вместо розыгрыша для каждой стены сразу выбирается, сколько стен пропустить до следующего цикла.
+     *
+     * @param grid лабиринт
+     * @param random источник случайности
+     */
+    public static void addCycles(MazeGrid grid, MazeRandom random) {
+        addCycles(grid, random, null);
+    }
+
+    /**
+     * Добавляет циклы, обрабатывая полосы строк параллельно в заданном пуле.
+     * Сетка должна допускать одновременную запись в разные клетки из разных потоков.
+     *
+     * @param grid лабиринт
+     * @param random источник случайности
+     * @param pool пул потоков или null для последовательной обработки
+     */
+    public static void addCycles(MazeGrid grid, MazeRandom random, ForkJoinPool pool) {
+        // Отдельный корень, чтобы потоки полос не совпадали с потоками, которые использовал генератор
+        MazeRandom root = random.forStream(random.nextLong());
+        RowBands.forEach(grid.getHeight(), pool, band -> addCyclesInBand(grid, root.forStream(band),
+            RowBands.firstRow(band), RowBands.endRow(band, grid.getHeight())));
+    }
+
+    // Строки читаются в буферы один раз на строку, соседние строки переиспользуются по кругу
+    private static void addCyclesInBand(MazeGrid grid, MazeRandom random, int from, int to) {
+        int width = grid.getWidth();
+        int first = Math.max(from, 1);
+        int last = Math.min(to, grid.getHeight() - 1);
+        if (first >= last) {
+            return;
+        }
+        byte[] above = new byte[width];
+        byte[] current = new byte[width];
+        byte[] below = new byte[width];
+        byte[] candidates = new byte[width];
+        grid.readRow(first - 1, above);
+        grid.readRow(first, current);
+        long skip = random.skipCount(CYCLE_CHANCE);
+        for (int row = first; row < last; row++) {
+            grid.readRow(row + 1, below);
+            markCycleWalls(above, current, below, candidates, width);
+            // Стены между клетками: четные столбцы в нечетных строках и нечетные в четных
+            for (int col = 1 + row % 2; col < width - 1; col += 2) {
+                if (candidates[col] == 0) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                skip = random.skipCount(CYCLE_CHANCE);
+                grid.setPassage(row, col, grid.getRandomSurface(random));
+            }
+            byte[] swap = above;
+            above = current;
+            current = below;
+            below = swap;
+        }
+    }
+
+    // Отмечает стены, ровно две из четырех соседних клеток которых - проходы.
+    // Цикл без ветвлений и вызовов над массивами байт, поэтому JIT может его векторизовать
+    private static void markCycleWalls(byte[] above, byte[] current, byte[] below, byte[] target, int width) {
+        for (int col = 1; col < width - 1; col++) {
+            int passages = (above[col] & CellCodec.PASSAGE_BIT) + (below[col] & CellCodec.PASSAGE_BIT)
+                + (current[col - 1] & CellCodec.PASSAGE_BIT) + (current[col + 1] & CellCodec.PASSAGE_BIT);
+            // (passages ^ 2) - 1 отрицательно только при passages == 2
+            int twoPassages = ((passages ^ 2) - 1) >>> SIGN_SHIFT;
+            target[col] = (byte) (twoPassages & ~current[col] & CellCodec.PASSAGE_BIT);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Прямоугольное окно в другом лабиринте, видимое как отдельный лабиринт.
+ * Координаты окна сдвинуты относительно исходной сетки, запись и чтение идут прямо в нее.
+ * Позволяет запускать генератор на части большого лабиринта, например на одной плитке.
+ */
+public final class MazeRegion implements MazeGrid {
+
+    private final MazeGrid parent;
+    private final int rowOffset;
+    private final int colOffset;
+    private final int height;
+    private final int width;
+
+    /**
+     * Создает окно в лабиринте.
+     *
+     * @param parent исходный лабиринт
+     * @param rowOffset строка исходного лабиринта, соответствующая верхней строке окна
+     * @param colOffset столбец исходного лабиринта, соответствующий левому столбцу окна
+     * @param height высота окна
+     * @param width ширина окна
+     * @throws IllegalArgumentException если окно выходит за пределы исходного лабиринта
+     */
+    public MazeRegion(MazeGrid parent, int rowOffset, int colOffset, int height, int width) {
+        if (rowOffset < 0 || colOffset < 0 || height < 0 || width < 0
+            || rowOffset + height > parent.getHeight() || colOffset + width > parent.getWidth()) {
+            throw new IllegalArgumentException("Окно " + rowOffset + ", " + colOffset + ", " + height + "x" + width
+                + " выходит за пределы лабиринта");
+        }
+        this.parent = parent;
+        this.rowOffset = rowOffset;
+        this.colOffset = colOffset;
+        this.height = height;
+        this.width = width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public boolean isPassage(int row, int col) {
+        checkBounds(row, col);
+        return parent.isPassage(rowOffset + row, colOffset + col);
+    }
+
+    @Override
+    public SurfaceType getSurface(int row, int col) {
+        checkBounds(row, col);
+        return parent.getSurface(rowOffset + row, colOffset + col);
+    }
+
+    @Override
+    public void setPassage(int row, int col, SurfaceType surface) {
+        checkBounds(row, col);
+        parent.setPassage(rowOffset + row, colOffset + col, surface);
+    }
+
+    @Override
+    public SurfaceType getRandomSurface(MazeRandom random) {
+        return parent.getRandomSurface(random);
+    }
+
+    @Override
+    public SurfaceType getSurfaceForChance(int chance) {
+        return parent.getSurfaceForChance(chance);
+    }
+
+    // Проверяет, что клетка лежит внутри окна
+    private void checkBounds(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            throw new IndexOutOfBoundsException("Клетка вне окна: " + row + ", " + col);
+        }
+    }
+}
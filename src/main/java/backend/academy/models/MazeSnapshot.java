@@ -0,0 +1,102 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.MazeGrid;
+
+/**
+ * Неизменяемый снимок лабиринта.
+ * Клетки хранятся в упакованном виде по байту на клетку и после создания не меняются,
+ * поэтому снимок безопасно читать из любого числа потоков без блокировок и копирования.
+ */
+public final class MazeSnapshot implements MazeGrid {
+    private final int height;
+    private final int width;
+    private final byte[] cells;  // Упакованные клетки построчно, не изменяются
+    private final long version;  // Номер версии, из которой получен снимок
+
+    MazeSnapshot(int height, int width, byte[] cells, long version) {
+        this.height = height;
+        this.width = width;
+        this.cells = cells;
+        this.version = version;
+    }
+
+    // Копия упакованных клеток построчно
+    byte[] copyCells() {
+        return cells.clone();
+    }
+
+    /**
+     * Создает изменяемую копию лабиринта по снимку.
+     *
+     * @return новый лабиринт с теми же клетками
+     */
+    public Maze toMaze() {
+        Maze maze = new Maze(height, width);
+        maze.loadCells(cells);
+        return maze;
+    }
+
+    /**
+     * Возвращает клетку по координатам.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return представление клетки
+     */
+    public Cell getCell(int row, int col) {
+        byte packed = cells[index(row, col)];
+        return new Cell(row, col, CellCodec.typeOf(packed), CellCodec.surfaceOf(packed));
+    }
+
+    @Override
+    public boolean isPassage(int row, int col) {
+        return CellCodec.isPassage(cells[index(row, col)]);
+    }
+
+    @Override
+    public SurfaceType getSurface(int row, int col) {
+        return CellCodec.surfaceOf(cells[index(row, col)]);
+    }
+
+    @Override
+    public void readRow(int row, byte[] target) {
+        System.arraycopy(cells, index(row, 0), target, 0, width);
+    }
+
+    /**
+     * Снимок изменять нельзя.
+     *
+     * @throws UnsupportedOperationException всегда
+     */
+    @Override
+    public void setPassage(int row, int col, SurfaceType surface) {
+        throw new UnsupportedOperationException("Снимок лабиринта нельзя изменить");
+    }
+
+    /**
+     * Возвращает номер версии, из которой получен снимок.
+     *
+     * @return номер версии
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    // Вычисляет индекс клетки в упакованном массиве
+    private int index(int row, int col) {
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            throw new IndexOutOfBoundsException("Клетка вне лабиринта: " + row + ", " + col);
+        }
+        return row * width + col;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,55 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Назначение поверхностей проходам готового лабиринта.
+ * Позволяет вынести розыгрыш поверхностей из генерации: генератор строит сетку
+ * с обычными поверхностями, а поверхности назначаются отдельным проходом по полосам строк.
+ * Каждая полоса использует собственный поток случайности, поэтому результат
+ * не зависит от того, выполняется проход последовательно или параллельно.
+ */
+public final class MazeSurfaces {
+
+    private MazeSurfaces() {
+
+    }
+
+    /**
+     * Назначает каждому проходу случайную поверхность.
+     *
+     * @param grid лабиринт
+     * @param random источник случайности
+     */
+    public static void assignSurfaces(MazeGrid grid, MazeRandom random) {
+        assignSurfaces(grid, random, null);
+    }
+
+    /**
+     * Назначает поверхности, обрабатывая полосы строк параллельно в заданном пуле.
+     * Сетка должна допускать одновременную запись в разные клетки из разных потоков.
+     *
+     * @param grid лабиринт
+     * @param random источник случайности
+     * @param pool пул потоков или null для последовательной обработки
+     */
+    public static void assignSurfaces(MazeGrid grid, MazeRandom random, ForkJoinPool pool) {
+        MazeRandom root = random.forStream(random.nextLong());
+        RowBands.forEach(grid.getHeight(), pool, band -> assignInBand(grid, root.forStream(band),
+            RowBands.firstRow(band), RowBands.endRow(band, grid.getHeight())));
+    }
+
+    private static void assignInBand(MazeGrid grid, MazeRandom random, int from, int to) {
+        byte[] cells = new byte[grid.getWidth()];
+        for (int row = from; row < to; row++) {
+            grid.readRow(row, cells);
+            for (int col = 0; col < cells.length; col++) {
+                if (CellCodec.isPassage(cells[col])) {
+                    grid.setPassage(row, col, grid.getRandomSurface(random));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package backend.academy.models;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Разбиение строк лабиринта на полосы для постобработки.
+ * Границы полос зависят только от высоты лабиринта, поэтому полоса с одним номером
+ * получает один и тот же поток случайности при любом числе потоков.
+ */
+final class RowBands {
+
+    static final int BAND_ROWS = 64;  // Число строк сетки в одной полосе
+
+    private RowBands() {
+
+    }
+
+    static int count(int height) {
+        return (height + BAND_ROWS - 1) / BAND_ROWS;
+    }
+
+    static int firstRow(int band) {
+        return band * BAND_ROWS;
+    }
+
+    static int endRow(int band, int height) {
+        return Math.min(height, (band + 1) * BAND_ROWS);
+    }
+
+    /**
+     * Выполняет действие для каждой полосы: последовательно, если пул не задан, иначе в пуле.
+     *
+     * @param height высота лабиринта
+     * @param pool пул потоков или null
+     * @param action действие над номером полосы
+     */
+    static void forEach(int height, ForkJoinPool pool, IntConsumer action) {
+        int bands = count(height);
+        if (bands == 0) {
+            return;
+        }
+        if (pool == null) {
+            for (int band = 0; band < bands; band++) {
+                action.accept(band);
+            }
+        } else {
+            pool.invoke(new BandTask(0, bands, action));
+        }
+    }
+
+    /**
+     * Задача обработки диапазона полос, делящаяся пополам до одной полосы.
+     */
+    private static final class BandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer action;
+
+        BandTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BandTask(from, middle, action), new BandTask(middle, to, action));
+        }
+    }
+}
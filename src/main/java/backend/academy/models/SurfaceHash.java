@@ -0,0 +1,49 @@
+package backend.academy.models;
+
+import backend.academy.utils.MazeRandom;
+
+/**
+ * Детерминированный выбор поверхности клетки по хешу от (seed, row, col).
+ * Распределение совпадает с {@link SurfaceType#fromChance(int)}, но не требует
+ * ни генератора случайных чисел, ни памяти под поверхности: значение для любой клетки
+ * можно вычислить заново в любом потоке или процессе, зная только seed.
+ */
+public final class SurfaceHash {
+
+    private final long seed;
+    private final long mixedSeed;
+
+    /**
+     * Создает хеш поверхностей для заданного seed.
+     *
+     * @param seed начальное значение
+     */
+    public SurfaceHash(long seed) {
+        this.seed = seed;
+        this.mixedSeed = MazeRandom.mix(seed);
+    }
+
+    /**
+     * Возвращает поверхность клетки.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return тип поверхности, одинаковый при каждом вызове с теми же аргументами
+     */
+    public SurfaceType surfaceAt(int row, int col) {
+        long key = (long) row << Integer.SIZE | Integer.toUnsignedLong(col);
+        long hash = MazeRandom.mix(mixedSeed + key * MazeRandom.GOLDEN_GAMMA);
+        // Старшие 32 бита равномерно отображаются в [0, CHANCE_RANGE) умножением вместо деления
+        int chance = (int) ((hash >>> Integer.SIZE) * SurfaceType.CHANCE_RANGE >>> Integer.SIZE);
+        return SurfaceType.fromChance(chance);
+    }
+
+    /**
+     * Возвращает начальное значение хеша.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
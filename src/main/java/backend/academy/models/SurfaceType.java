@@ -10,6 +10,14 @@ public enum SurfaceType {
     COIN(-1),          // Монетка: улучшает перемещение, снижает общую стоимость
     ROAD(0.5);         // Дорожка: ускоряет перемещение, снижает стоимость
 
+    public static final int CHANCE_RANGE = 100;  // Диапазон значений для выбора поверхности
+
+    // Вероятности различных поверхностей (накопительные границы в процентах)
+    private static final int SWAMP_CHANCE = 5;
+    private static final int SAND_CHANCE = 15;
+    private static final int COIN_CHANCE = 20;
+    private static final int ROAD_CHANCE = 30;
+
     private final double cost;
 
     /**
@@ -29,4 +37,27 @@ public enum SurfaceType {
     public double getCost() {
         return cost;
     }
+
+    /**
+     * Выбирает тип поверхности по значению из диапазона [0, CHANCE_RANGE)
+     * в соответствии с вероятностями поверхностей.
+     *
+     * @param chance значение от 0 до CHANCE_RANGE - 1
+     * @return тип поверхности
+     */
+    public static SurfaceType fromChance(int chance) {
+        SurfaceType surfaceType = NORMAL;
+
+        if (chance < SWAMP_CHANCE) {
+            surfaceType = SWAMP;
+        } else if (chance < SAND_CHANCE) {
+            surfaceType = SAND;
+        } else if (chance < COIN_CHANCE) {
+            surfaceType = COIN;
+        } else if (chance < ROAD_CHANCE) {
+            surfaceType = ROAD;
+        }
+
+        return surfaceType;
+    }
 }
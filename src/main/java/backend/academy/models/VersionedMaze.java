@@ -0,0 +1,128 @@
+package backend.academy.models;
+
+import backend.academy.interfaces.CellStorage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Лабиринт с версиями по схеме копирования при записи.
+ * Читатели получают текущий неизменяемый снимок без блокировок и никогда не видят
+ * частично примененных изменений. Писатели работают с изменяемой копией и публикуют
+ * новый снимок атомарно; одновременные изменения выполняются по очереди.
+ */
+public final class VersionedMaze {
+
+    private final AtomicReference<MazeSnapshot> current;
+    private final Object writeLock = new Object();
+
+    /**
+     * Создает версионированный лабиринт с начальным состоянием переданного лабиринта.
+     *
+     * @param initial исходный лабиринт (копируется)
+     */
+    public VersionedMaze(Maze initial) {
+        this.current = new AtomicReference<>(initial.freeze());
+    }
+
+    /**
+     * Возвращает текущий снимок лабиринта. Не блокируется.
+     *
+     * @return последний опубликованный снимок
+     */
+    public MazeSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Применяет изменения к копии последнего снимка и публикует результат как новую версию.
+     * Копия пишет прямо в массив нового снимка, поэтому сетка копируется один раз;
+     * после возврата из редактора копия запечатывается, и изменить ее уже нельзя.
+     *
+     * @param editor действие, изменяющее копию лабиринта
+     * @return опубликованный снимок новой версии
+     */
+    public MazeSnapshot update(Consumer<Maze> editor) {
+        synchronized (writeLock) {
+            MazeSnapshot base = current.get();
+            DraftStorage draft = new DraftStorage(base.getHeight(), base.getWidth(), base.copyCells());
+            try {
+                editor.accept(new Maze(draft));
+            } finally {
+                draft.seal();
+            }
+            MazeSnapshot next = new MazeSnapshot(base.getHeight(), base.getWidth(), draft.cells,
+                base.getVersion() + 1);
+            current.set(next);
+            return next;
+        }
+    }
+
+    /**
+     * Возвращает номер текущей версии.
+     *
+     * @return номер версии
+     */
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * Хранилище черновика новой версии. Его массив без копирования становится массивом снимка,
+     * поэтому после публикации запись в черновик запрещена.
+     */
+    private static final class DraftStorage implements CellStorage {
+
+        private final int height;
+        private final int width;
+        private final byte[] cells;  // Упакованные клетки построчно, после запечатывания принадлежат снимку
+        private boolean sealed;
+
+        DraftStorage(int height, int width, byte[] cells) {
+            this.height = height;
+            this.width = width;
+            this.cells = cells;
+        }
+
+        void seal() {
+            sealed = true;
+        }
+
+        @Override
+        public byte get(int row, int col) {
+            return cells[row * width + col];
+        }
+
+        @Override
+        public void set(int row, int col, byte packed) {
+            checkWritable();
+            cells[row * width + col] = packed;
+        }
+
+        @Override
+        public void readRow(int row, byte[] target, int offset) {
+            System.arraycopy(cells, row * width, target, offset, width);
+        }
+
+        @Override
+        public void writeRow(int row, byte[] source, int offset) {
+            checkWritable();
+            System.arraycopy(source, offset, cells, row * width, width);
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        private void checkWritable() {
+            if (sealed) {
+                throw new IllegalStateException("Версия уже опубликована, черновик изменять нельзя");
+            }
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package backend.academy.renderers;
 
+import backend.academy.interfaces.MazeGrid;
 import backend.academy.interfaces.Renderer;
-import backend.academy.models.Cell;
 import backend.academy.models.Coordinate;
-import backend.academy.models.Maze;
 import java.util.List;
 
 /**
@@ -33,7 +32,7 @@ public class ConsoleRenderer implements Renderer {
      * @return строка с текстовым представлением лабиринта
      */
     @Override
-    public String render(Maze maze) {
+    public String render(MazeGrid maze) {
         return renderMaze(maze, null, null, null);
     }
 
@@ -45,7 +44,7 @@ public class ConsoleRenderer implements Renderer {
      * @return строка с текстовым представлением лабиринта с выделенным путем
      */
     @Override
-    public String render(Maze maze, List<Coordinate> path) {
+    public String render(MazeGrid maze, List<Coordinate> path) {
         return renderMaze(maze, path, null, null);
     }
 
@@ -55,7 +54,7 @@ public class ConsoleRenderer implements Renderer {
      * @param maze лабиринт для отображения
      * @return строка с текстовым представлением лабиринта и метками
      */
-    public String renderWithLabels(Maze maze) {
+    public String renderWithLabels(MazeGrid maze) {
         return renderMaze(maze, null, null, null, true);
     }
 
@@ -67,7 +66,7 @@ public class ConsoleRenderer implements Renderer {
      * @param end координаты конечной точки
      * @return строка с текстовым представлением лабиринта с выделением начальной и конечной точек
      */
-    public String renderWithPoints(Maze maze, Coordinate start, Coordinate end) {
+    public String renderWithPoints(MazeGrid maze, Coordinate start, Coordinate end) {
         return renderMaze(maze, null, start, end);
     }
 
@@ -80,12 +79,12 @@ public class ConsoleRenderer implements Renderer {
      * @param end координаты конечной точки
      * @return строка с текстовым представлением лабиринта с путем и выделенными точками
      */
-    public String renderWithPathAndPoints(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end) {
+    public String renderWithPathAndPoints(MazeGrid maze, List<Coordinate> path, Coordinate start, Coordinate end) {
         return renderMaze(maze, path, start, end);
     }
 
     // Основной метод отрисовки лабиринта
-    private String renderMaze(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end) {
+    private String renderMaze(MazeGrid maze, List<Coordinate> path, Coordinate start, Coordinate end) {
         return renderMaze(maze, path, start, end, false);
     }
 
@@ -99,9 +98,8 @@ public class ConsoleRenderer implements Renderer {
      * @param showLabels если true, отображает метки для строк и столбцов
      * @return строка с текстовым представлением лабиринта
      */
-    private String renderMaze(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end, boolean showLabels) {
+    private String renderMaze(MazeGrid maze, List<Coordinate> path, Coordinate start, Coordinate end, boolean showLabels) {
         StringBuilder sb = new StringBuilder();
-        Cell[][] grid = maze.getGrid();
         boolean[][] pathMap = createPathMap(maze, path);
         int height = maze.getHeight();
         int width = maze.getWidth();
@@ -119,7 +117,7 @@ public class ConsoleRenderer implements Renderer {
                 sb.append(String.format("%" + rowLabelWidth + "d ", row));
             }
             for (int col = 0; col < width; col++) {
-                sb.append(getCellRepresentation(grid[row][col], pathMap[row][col], start, end, row, col));
+                sb.append(getCellRepresentation(maze, pathMap[row][col], start, end, row, col));
                 sb.append(" ");
             }
             sb.append("\n");
@@ -135,7 +133,7 @@ public class ConsoleRenderer implements Renderer {
      * @param path путь, который нужно отобразить
      * @return карта пути в виде двумерного массива boolean
      */
-    private boolean[][] createPathMap(Maze maze, List<Coordinate> path) {
+    private boolean[][] createPathMap(MazeGrid maze, List<Coordinate> path) {
         boolean[][] pathMap = new boolean[maze.getHeight()][maze.getWidth()];
         if (path != null) {
             for (Coordinate coord : path) {
@@ -149,7 +147,7 @@ public class ConsoleRenderer implements Renderer {
      * Возвращает строковое представление клетки на основе ее типа, расположения на пути,
      * начальной и конечной точки.
      *
-     * @param cell клетка
+     * @param maze лабиринт
      * @param isOnPath true, если клетка является частью пути
      * @param start начальная точка
      * @param end конечная точка
@@ -157,7 +155,7 @@ public class ConsoleRenderer implements Renderer {
      * @param col столбец клетки
      * @return emoji-представление клетки
      */
-    private String getCellRepresentation(Cell cell, boolean isOnPath, Coordinate start, Coordinate end,
+    private String getCellRepresentation(MazeGrid maze, boolean isOnPath, Coordinate start, Coordinate end,
         int row, int col) {
         if (start != null && row == start.row() && col == start.col()) {
             return START_EMOJI;
@@ -166,21 +164,23 @@ public class ConsoleRenderer implements Renderer {
         } else if (isOnPath) {
             return PATH_EMOJI;
         } else {
-            return getEmojiForCell(cell);
+            return getEmojiForCell(maze, row, col);
         }
     }
 
     /**
      * Возвращает emoji-представление клетки в зависимости от ее типа и поверхности.
      *
-     * @param cell клетка
+     * @param maze лабиринт
+     * @param row строка клетки
+     * @param col столбец клетки
      * @return emoji-представление клетки
      */
-    private String getEmojiForCell(Cell cell) {
-        if (cell.type() == Cell.Type.WALL) {
+    private String getEmojiForCell(MazeGrid maze, int row, int col) {
+        if (!maze.isPassage(row, col)) {
             return WALL_EMOJI;
         } else {
-            return switch (cell.getSurface()) {
+            return switch (maze.getSurface(row, col)) {
                 case SWAMP -> SWAMP_EMOJI;
                 case SAND -> SAND_EMOJI;
                 case COIN -> COIN_EMOJI;
@@ -1,64 +1,20 @@
 package backend.academy.solvers;
 
-import backend.academy.interfaces.Solver;
-import backend.academy.models.Cell;
-import backend.academy.models.Coordinate;
-import backend.academy.models.Maze;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
 
 /**
  * Класс для нахождения кратчайшего пути в лабиринте с использованием алгоритма поиска в ширину (BFS).
  * Реализует интерфейс Solver и находит путь в лабиринте от начальной до конечной точки.
+ * Поиск идет по индексам клеток. Поиск по координатам выделяет свои рабочие массивы на каждый вызов,
+ * а поиск по индексам переиспользует массивы текущего потока, поэтому общий экземпляр
+ * можно вызывать из нескольких потоков одновременно.
  */
-public class BFSSolver implements Solver {
+public class BFSSolver extends ReusableSearchSolver<BFSSolver.BreadthFirstSearch> {
 
-    /**
-     * Находит кратчайший путь от начальной до конечной точки в лабиринте с помощью BFS.
-     *
-     * @param maze лабиринт для решения
-     * @param start начальная точка
-     * @param end конечная точка
-     * @return список координат, представляющий путь, или пустой список, если путь не найден
-     */
     @Override
-    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
-        int height = maze.getHeight();
-        int width = maze.getWidth();
-        boolean[][] visited = new boolean[height][width];  // Отслеживание посещенных клеток
-        Coordinate[][] parent = new Coordinate[height][width];  // Хранение предшественников для восстановления пути
-
-        Queue<Coordinate> queue = new LinkedList<>();
-        queue.add(start);
-        visited[start.row()][start.col()] = true;
-
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // Варианты перемещения: вверх, вниз, влево, вправо
-
-        // Основной цикл BFS
-        while (!queue.isEmpty()) {
-            Coordinate current = queue.poll();
-
-            // Завершаем, если достигли конечной точки
-            if (current.equals(end)) {
-                break;
-            }
-
-            // Проверка и добавление соседей в очередь
-            for (int[] dir : directions) {
-                int newRow = current.row() + dir[0];
-                int newCol = current.col() + dir[1];
-                if (isValid(maze, newRow, newCol, visited)) {
-                    queue.add(new Coordinate(newRow, newCol));
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
-                }
-            }
-        }
-
-        // Восстанавливаем путь от конечной точки к начальной
-        return reconstructPath(parent, start, end);
+    BreadthFirstSearch newSearch() {
+        return new BreadthFirstSearch();
     }
 
     /**
@@ -67,44 +23,72 @@ public class BFSSolver implements Solver {
      * @param maze лабиринт
      * @param row строка клетки
      * @param col столбец клетки
-     * @param visited массив посещенных клеток
-     * @return true, если клетка доступна для перемещения и еще не была посещена
+     * @return true, если клетка доступна для перемещения
      */
-    private boolean isValid(Maze maze, int row, int col, boolean[][] visited) {
+    private static boolean isValid(MazeGrid maze, int row, int col) {
         return row >= 0 && row < maze.getHeight() && col >= 0 && col < maze.getWidth()
-            && maze.getGrid()[row][col].type() == Cell.Type.PASSAGE && !visited[row][col];
+            && maze.isPassage(row, col);
     }
 
     /**
-     * Восстанавливает путь от конечной точки к начальной, используя массив предшественников.
-     *
-     * @param parent массив предшественников для каждой клетки
-     * @param start начальная точка
-     * @param end конечная точка
-     * @return список координат, представляющий путь от начальной до конечной точки
+     * Рабочие массивы и очередь одного поиска в ширину.
      */
-    private List<Coordinate> reconstructPath(Coordinate[][] parent, Coordinate start, Coordinate end) {
-        List<Coordinate> path = new ArrayList<>();
-        Coordinate current = end;
+    static final class BreadthFirstSearch extends ReusableSearchSolver.Search {
 
-        // Добавляем каждую клетку пути, двигаясь от конечной точки к начальной
-        while (current != null && !current.equals(start)) {
-            path.add(current);
-            current = parent[current.row()][current.col()];
-        }
+        private final SearchBuffers buffers = new SearchBuffers();
+        private int[] queue = new int[0];
 
-        // Если путь не найден, возвращаем пустой список
-        if (current == null) {
-            return List.of();
-        }
+        /**
+         * Находит кратчайший путь между клетками с заданными индексами с помощью BFS.
+         *
+         * @param maze лабиринт для решения
+         * @param start индекс начальной клетки
+         * @param end индекс конечной клетки
+         * @param path буфер для найденного пути
+         * @return true, если путь найден
+         */
+        @Override
+        boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+            buffers.prepare(maze, false);
+            buffers.checkCell(start);
+            buffers.checkCell(end);
+            int width = maze.getWidth();
+            if (queue.length < maze.getHeight() * width) {
+                queue = new int[maze.getHeight() * width];
+            }
+
+            int head = 0;
+            int tail = 0;
+            expanded = 0;
+            queue[tail++] = start;
+            buffers.markSeen(start, start);
 
-        path.add(start);
+            // Основной цикл BFS
+            while (head < tail) {
+                int current = queue[head++];
+                expanded++;
+
+                // Завершаем, если достигли конечной точки
+                if (current == end) {
+                    break;
+                }
+
+                // Проверка и добавление соседей в очередь
+                int row = current / width;
+                int col = current - row * width;
+                for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+                    int newRow = row + SearchBuffers.ROW_STEPS[d];
+                    int newCol = col + SearchBuffers.COL_STEPS[d];
+                    int next = current + SearchBuffers.ROW_STEPS[d] * width + SearchBuffers.COL_STEPS[d];
+                    if (isValid(maze, newRow, newCol) && !buffers.isSeen(next)) {
+                        buffers.markSeen(next, current);
+                        queue[tail++] = next;
+                    }
+                }
+            }
 
-        // Разворачиваем путь, чтобы он шел от начальной точки к конечной
-        List<Coordinate> reversed = new ArrayList<>();
-        for (int i = path.size() - 1; i >= 0; i--) {
-            reversed.add(path.get(i));
+            // Восстанавливаем путь от конечной точки к начальной
+            return buffers.tracePath(start, end, path);
         }
-        return reversed;
     }
 }
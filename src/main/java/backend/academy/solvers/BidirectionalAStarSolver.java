@@ -0,0 +1,177 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
+import backend.academy.models.SurfaceType;
+
+/**
+ * Встречный поиск A*: прямой поиск идет от начальной клетки, обратный - от конечной.
+ * Оба поиска используют усредненный потенциал p(v) = (h(v, конец) - h(v, начало)) / 2
+ * с противоположными знаками, поэтому их приведенные стоимости согласованы,
+ * и поиск можно остановить, как только сумма наименьших ключей двух куч достигнет
+ * стоимости лучшего найденного пути.
+ * Переход в клетку стоит столько же, сколько в {@link AStarSolver}, но отрицательные стоимости
+ * заменяются нулем: встречный поиск требует неотрицательных стоимостей.
+ * Путь оптимален, если каждый шаг стоит не меньше веса эвристики; с весом 0 решатель
+ * становится встречным алгоритмом Дейкстры и всегда находит оптимальный путь.
+ * По умолчанию вес равен наименьшей стоимости шага среди поверхностей, поэтому путь оптимален
+ * на любых поверхностях; пока монетка стоит ноль, это вес 0. Вес 1, как у {@link AStarSolver},
+ * точен только на поверхностях со стоимостью не меньше единицы.
+ * Поиск по координатам выделяет свои рабочие массивы на каждый вызов, а поиск по индексам
+ * переиспользует массивы текущего потока, поэтому общий экземпляр можно вызывать из нескольких потоков.
+ */
+public class BidirectionalAStarSolver extends ReusableSearchSolver<BidirectionalAStarSolver.MeetingSearch> {
+
+    private final double heuristicWeight;
+
+    /**
+     * Создает решатель, оптимальный на любых поверхностях: вес эвристики равен наименьшей стоимости шага.
+     */
+    public BidirectionalAStarSolver() {
+        this(minStepCost());
+    }
+
+    /**
+     * Создает решатель с заданным весом манхэттенской эвристики.
+     *
+     * @param heuristicWeight нижняя оценка стоимости одного шага, неотрицательная
+     */
+    public BidirectionalAStarSolver(double heuristicWeight) {
+        if (heuristicWeight < 0 || Double.isNaN(heuristicWeight)) {
+            throw new IllegalArgumentException("Вес эвристики должен быть неотрицательным: " + heuristicWeight);
+        }
+        this.heuristicWeight = heuristicWeight;
+    }
+
+    @Override
+    MeetingSearch newSearch() {
+        return new MeetingSearch();
+    }
+
+    /**
+     * Рабочие массивы, кучи и лучшая встреча одного встречного поиска.
+     */
+    final class MeetingSearch extends ReusableSearchSolver.Search {
+
+        private final SearchBuffers forward = new SearchBuffers();
+        private final SearchBuffers backward = new SearchBuffers();
+        private final NodeHeap forwardOpen = new NodeHeap();
+        private final NodeHeap backwardOpen = new NodeHeap();
+        private int meet;
+        private double best;
+
+        /**
+         * Находит путь между клетками с заданными индексами встречным поиском A*.
+         *
+         * @param maze лабиринт для решения
+         * @param start индекс начальной клетки
+         * @param end индекс конечной клетки
+         * @param path буфер для найденного пути
+         * @return true, если путь найден
+         */
+        @Override
+        boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+            forward.prepare(maze, true);
+            backward.prepare(maze, true);
+            forward.checkCell(start);
+            forward.checkCell(end);
+            int cells = maze.getHeight() * maze.getWidth();
+            forwardOpen.prepare(cells);
+            backwardOpen.prepare(cells);
+            expanded = 0;
+            meet = -1;
+            best = Double.MAX_VALUE;
+
+            forward.markSeen(start, start);
+            forward.setCost(start, 0.0);
+            forwardOpen.pushOrDecrease(start, potential(maze, start, start, end));
+            backward.markSeen(end, end);
+            backward.setCost(end, 0.0);
+            backwardOpen.pushOrDecrease(end, -potential(maze, end, start, end));
+            if (start == end) {
+                return forward.tracePath(start, end, path);
+            }
+
+            // Ключ прямого поиска g + p, обратного g - p: их сумма для клетки равна стоимости пути через нее,
+            // поэтому, когда сумма наименьших ключей не меньше лучшей стоимости, пути дешевле не осталось
+            while (!forwardOpen.isEmpty() && !backwardOpen.isEmpty()
+                && forwardOpen.peekKey() + backwardOpen.peekKey() < best) {
+                if (forwardOpen.peekKey() <= backwardOpen.peekKey()) {
+                    expand(maze, forward, backward, forwardOpen, true, start, end);
+                } else {
+                    expand(maze, backward, forward, backwardOpen, false, start, end);
+                }
+            }
+
+            if (meet < 0) {
+                path.clear();
+                return false;
+            }
+            SearchBuffers.joinPaths(forward, backward, start, meet, end, path);
+            return true;
+        }
+
+        // Раскрывает клетку с наименьшим ключом в одном направлении поиска
+        private void expand(MazeGrid maze, SearchBuffers own, SearchBuffers other, NodeHeap open,
+            boolean isForward, int start, int end) {
+            int current = open.pop();
+            own.markClosed(current);
+            expanded++;
+            int width = maze.getWidth();
+            int row = current / width;
+            int col = current - row * width;
+            // Обратный поиск идет по ребрам в обратную сторону: шаг из соседа в текущую клетку
+            // стоит столько же, сколько вход в текущую клетку
+            double leaveCost = isForward ? 0.0 : stepCost(maze, row, col);
+            for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+                int newRow = row + SearchBuffers.ROW_STEPS[d];
+                int newCol = col + SearchBuffers.COL_STEPS[d];
+                int neighbor = current + SearchBuffers.ROW_STEPS[d] * width + SearchBuffers.COL_STEPS[d];
+                if (!isValid(maze, newRow, newCol) || own.isClosed(neighbor)) {
+                    continue;
+                }
+                double step = isForward ? stepCost(maze, newRow, newCol) : leaveCost;
+                double tentative = own.getCost(current) + step;
+                if (tentative < own.getCost(neighbor)) {
+                    own.markSeen(neighbor, current);
+                    own.setCost(neighbor, tentative);
+                    double p = potential(maze, neighbor, start, end);
+                    open.pushOrDecrease(neighbor, tentative + (isForward ? p : -p));
+                }
+                // Клетка, достигнутая обоими поисками, дает путь через нее
+                if (other.isSeen(neighbor) && own.getCost(neighbor) + other.getCost(neighbor) < best) {
+                    best = own.getCost(neighbor) + other.getCost(neighbor);
+                    meet = neighbor;
+                }
+            }
+        }
+
+        // Усредненный потенциал прямого поиска, обратный поиск использует его со знаком минус
+        private double potential(MazeGrid maze, int cell, int start, int end) {
+            int width = maze.getWidth();
+            int row = cell / width;
+            int col = cell - row * width;
+            double toEnd = Math.abs(row - end / width) + Math.abs(col - end % width);
+            double toStart = Math.abs(row - start / width) + Math.abs(col - start % width);
+            return heuristicWeight * (toEnd - toStart) / 2;
+        }
+    }
+
+    // Наименьшая стоимость шага - наибольший вес, при котором эвристика не переоценивает путь
+    private static double minStepCost() {
+        double min = Double.MAX_VALUE;
+        for (SurfaceType surface : SurfaceType.values()) {
+            min = Math.min(min, Math.max(0.0, surface.getCost()));
+        }
+        return min;
+    }
+
+    private static double stepCost(MazeGrid maze, int row, int col) {
+        return Math.max(0.0, maze.getSurface(row, col).getCost());
+    }
+
+    private static boolean isValid(MazeGrid maze, int row, int col) {
+        return row >= 0 && row < maze.getHeight() && col >= 0 && col < maze.getWidth()
+            && maze.isPassage(row, col);
+    }
+}
@@ -0,0 +1,153 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
+
+/**
+ * Встречный поиск в ширину: два поиска идут навстречу друг другу от начальной и конечной клеток.
+ * Каждый раз раскрывается целый уровень того поиска, у которого очередь короче.
+ * Как только уровни соприкоснулись, уровень дораскрывается и выбирается кратчайшая из встреч,
+ * поэтому путь остается кратчайшим по числу шагов, а в лабиринтах с циклами
+ * раскрывается заметно меньше клеток, чем у {@link BFSSolver}.
+ * Поиск по координатам выделяет свои рабочие массивы на каждый вызов, а поиск по индексам
+ * переиспользует массивы текущего потока, поэтому общий экземпляр можно вызывать из нескольких потоков.
+ */
+public class BidirectionalBFSSolver extends ReusableSearchSolver<BidirectionalBFSSolver.MeetingSearch> {
+
+    @Override
+    MeetingSearch newSearch() {
+        return new MeetingSearch();
+    }
+
+    /**
+     * Рабочие массивы и очереди одного встречного поиска.
+     */
+    static final class MeetingSearch extends ReusableSearchSolver.Search {
+
+        private final SearchBuffers forward = new SearchBuffers();
+        private final SearchBuffers backward = new SearchBuffers();
+        private final Frontier front = new Frontier(forward, backward);
+        private final Frontier back = new Frontier(backward, forward);
+
+        /**
+         * Находит кратчайший путь между клетками с заданными индексами встречным поиском в ширину.
+         *
+         * @param maze лабиринт для решения
+         * @param start индекс начальной клетки
+         * @param end индекс конечной клетки
+         * @param path буфер для найденного пути
+         * @return true, если путь найден
+         */
+        @Override
+        boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+            forward.prepare(maze, true);
+            backward.prepare(maze, true);
+            forward.checkCell(start);
+            forward.checkCell(end);
+            expanded = 0;
+
+            forward.markSeen(start, start);
+            forward.setCost(start, 0);
+            backward.markSeen(end, end);
+            backward.setCost(end, 0);
+            if (start == end) {
+                return forward.tracePath(start, end, path);
+            }
+
+            int cells = maze.getHeight() * maze.getWidth();
+            front.reset(cells, start);
+            back.reset(cells, end);
+
+            // Раскрываем по уровню у меньшей очереди, пока очереди не пусты и встреча не найдена
+            while (!front.isEmpty() && !back.isEmpty() && front.meet < 0 && back.meet < 0) {
+                Frontier smaller = front.size() <= back.size() ? front : back;
+                expanded += smaller.expandLevel(maze);
+            }
+
+            Frontier met = front.meet < 0 ? back : front;
+            if (met.meet < 0) {
+                path.clear();
+                return false;
+            }
+            SearchBuffers.joinPaths(forward, backward, start, met.meet, end, path);
+            return true;
+        }
+    }
+
+    /**
+     * Очередь одного направления поиска и лучшая найденная им встреча.
+     * Расстояния хранятся в массиве стоимостей буферов поиска.
+     */
+    private static final class Frontier {
+
+        private final SearchBuffers own;
+        private final SearchBuffers other;
+        private int[] queue = new int[0];
+        private int head;
+        private int tail;
+        private int meet = -1;
+        private double best = Double.MAX_VALUE;
+
+        Frontier(SearchBuffers own, SearchBuffers other) {
+            this.own = own;
+            this.other = other;
+        }
+
+        // Готовит очередь к новому поиску из заданной клетки
+        void reset(int cells, int first) {
+            if (queue.length < cells) {
+                queue = new int[cells];
+            }
+            queue[0] = first;
+            head = 0;
+            tail = 1;
+            meet = -1;
+            best = Double.MAX_VALUE;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int size() {
+            return tail - head;
+        }
+
+        // Раскрывает все клетки текущего уровня, возвращает их число
+        int expandLevel(MazeGrid maze) {
+            int width = maze.getWidth();
+            int levelEnd = tail;
+            int count = levelEnd - head;
+            while (head < levelEnd) {
+                int current = queue[head++];
+                int row = current / width;
+                int col = current - row * width;
+                for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+                    int newRow = row + SearchBuffers.ROW_STEPS[d];
+                    int newCol = col + SearchBuffers.COL_STEPS[d];
+                    int next = current + SearchBuffers.ROW_STEPS[d] * width + SearchBuffers.COL_STEPS[d];
+                    if (isValid(maze, newRow, newCol) && !own.isSeen(next)) {
+                        own.markSeen(next, current);
+                        own.setCost(next, own.getCost(current) + 1);
+                        queue[tail++] = next;
+                        checkMeeting(next);
+                    }
+                }
+            }
+            return count;
+        }
+
+        // Клетка, достигнутая обоими поисками, дает путь длиной в сумму расстояний
+        private void checkMeeting(int cell) {
+            if (other.isSeen(cell) && own.getCost(cell) + other.getCost(cell) < best) {
+                best = own.getCost(cell) + other.getCost(cell);
+                meet = cell;
+            }
+        }
+
+        private static boolean isValid(MazeGrid maze, int row, int col) {
+            return row >= 0 && row < maze.getHeight() && col >= 0 && col < maze.getWidth()
+                && maze.isPassage(row, col);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
+import backend.academy.models.SurfaceType;
+import java.util.Arrays;
+
+/**
+ * Поиск кратчайшего пути алгоритмом Дейкстры с кольцевой очередью корзин (алгоритм Дайала).
+ * Стоимости поверхностей умножаются на {@link #COST_SCALE} и становятся небольшими целыми числами,
+ * поэтому вместо кучи достаточно кольца из (наибольшая стоимость + 1) корзин:
+ * добавление и извлечение клетки выполняются за O(1).
+ * Алгоритм требует неотрицательных стоимостей, поэтому стоимость монетки считается нулевой.
+ * На поверхностях с неотрицательной стоимостью находит путь той же стоимости, что и Дейкстра с кучей.
+ * Поиск по координатам выделяет свои рабочие массивы на каждый вызов, а поиск по индексам
+ * переиспользует массивы текущего потока, поэтому общий экземпляр можно вызывать из нескольких потоков.
+ */
+public class DialSolver extends ReusableSearchSolver<DialSolver.BucketSearch> {
+
+    public static final int COST_SCALE = 2;  // Множитель, делающий стоимости поверхностей целыми
+
+    private static final int INITIAL_BUCKET_CAPACITY = 64;
+    private static final int[] SCALED_COSTS = new int[SurfaceType.values().length];
+    private static final int BUCKETS;
+
+    static {
+        int max = 0;
+        for (SurfaceType surface : SurfaceType.values()) {
+            double scaled = Math.max(0.0, surface.getCost()) * COST_SCALE;
+            if (scaled != Math.rint(scaled)) {
+                throw new IllegalStateException("Стоимость поверхности " + surface + " не кратна 1/" + COST_SCALE);
+            }
+            SCALED_COSTS[surface.ordinal()] = (int) scaled;
+            max = Math.max(max, (int) scaled);
+        }
+        BUCKETS = max + 1;
+    }
+
+    @Override
+    BucketSearch newSearch() {
+        return new BucketSearch();
+    }
+
+    /**
+     * Возвращает стоимость поверхности в единицах решателя: умноженную на {@link #COST_SCALE}
+     * и ограниченную снизу нулем.
+     *
+     * @param surface тип поверхности
+     * @return целая неотрицательная стоимость
+     */
+    public static int scaledCost(SurfaceType surface) {
+        return SCALED_COSTS[surface.ordinal()];
+    }
+
+    private static boolean isValid(MazeGrid maze, int row, int col) {
+        return row >= 0 && row < maze.getHeight() && col >= 0 && col < maze.getWidth()
+            && maze.isPassage(row, col);
+    }
+
+    /**
+     * Рабочие массивы и кольцо корзин одного поиска.
+     */
+    static final class BucketSearch extends ReusableSearchSolver.Search {
+
+        private final SearchBuffers buffers = new SearchBuffers();
+        private final int[][] buckets = new int[BUCKETS][INITIAL_BUCKET_CAPACITY];
+        private final int[] bucketSizes = new int[BUCKETS];
+
+        /**
+         * Находит путь наименьшей стоимости между клетками с заданными индексами.
+         *
+         * @param maze лабиринт для решения
+         * @param start индекс начальной клетки
+         * @param end индекс конечной клетки
+         * @param path буфер для найденного пути
+         * @return true, если путь найден
+         */
+        @Override
+        boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+            buffers.prepare(maze, true);
+            buffers.checkCell(start);
+            buffers.checkCell(end);
+            int width = maze.getWidth();
+            Arrays.fill(bucketSizes, 0);
+            expanded = 0;
+
+            buffers.markSeen(start, start);
+            buffers.setCost(start, 0.0);
+            push(start, 0);
+            long pending = 1;
+            long distance = 0;
+
+            while (pending > 0) {
+                int bucket = (int) (distance % BUCKETS);
+                if (bucketSizes[bucket] == 0) {
+                    // Корзина текущего расстояния пуста, переходим к следующему
+                    distance++;
+                    continue;
+                }
+                int current = buckets[bucket][--bucketSizes[bucket]];
+                pending--;
+
+                // Устаревшая запись: клетка уже извлечена или позже получила меньшее расстояние
+                if (buffers.isClosed(current) || buffers.getCost(current) != distance) {
+                    continue;
+                }
+                buffers.markClosed(current);
+                expanded++;
+                if (current == end) {
+                    return buffers.tracePath(start, end, path);
+                }
+
+                int row = current / width;
+                int col = current - row * width;
+                for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+                    int newRow = row + SearchBuffers.ROW_STEPS[d];
+                    int newCol = col + SearchBuffers.COL_STEPS[d];
+                    int neighbor = current + SearchBuffers.ROW_STEPS[d] * width + SearchBuffers.COL_STEPS[d];
+                    if (!isValid(maze, newRow, newCol) || buffers.isClosed(neighbor)) {
+                        continue;
+                    }
+                    long next = distance + SCALED_COSTS[maze.getSurface(newRow, newCol).ordinal()];
+                    if (next < buffers.getCost(neighbor)) {
+                        buffers.markSeen(neighbor, current);
+                        buffers.setCost(neighbor, next);
+                        push(neighbor, next);
+                        pending++;
+                    }
+                }
+            }
+
+            // Путь не найден
+            path.clear();
+            return false;
+        }
+
+        // Корзина выбирается по остатку: все ожидающие клетки лежат в пределах BUCKETS от текущего расстояния
+        private void push(int cell, long distance) {
+            int bucket = (int) (distance % BUCKETS);
+            if (bucketSizes[bucket] == buckets[bucket].length) {
+                buckets[bucket] = Arrays.copyOf(buckets[bucket], 2 * bucketSizes[bucket]);
+            }
+            buckets[bucket][bucketSizes[bucket]++] = cell;
+        }
+    }
+}
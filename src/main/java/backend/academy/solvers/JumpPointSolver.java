@@ -0,0 +1,174 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
+import backend.academy.models.SurfaceType;
+
+/**
+ * Поиск пути с прыжками по коридорам (Jump Point Search для сетки с четырьмя направлениями).
+ * Из каждой точки прыжка поиск идет по прямой, пока клетка коридора не имеет боковых проходов:
+ * через такую клетку любой путь проходит только прямо, поэтому в кучу попадают лишь
+ * точки прыжка - развилки, повороты и конечная клетка, а тупики отбрасываются сразу.
+ * В обычном режиме все шаги стоят одинаково и путь кратчайший по числу шагов, как у {@link BFSSolver}.
+ * В режиме с учетом поверхностей любая клетка с поверхностью, отличной от {@link SurfaceType#NORMAL},
+ * тоже становится точкой прыжка, и путь оптимален по стоимости поверхностей;
+ * отрицательные стоимости, как и во встречном поиске, заменяются нулем.
+ * Поиск по координатам выделяет свои рабочие массивы на каждый вызов, а поиск по индексам
+ * переиспользует массивы текущего потока, поэтому общий экземпляр можно вызывать из нескольких потоков.
+ */
+public class JumpPointSolver extends ReusableSearchSolver<JumpPointSolver.JumpSearch> {
+
+    private final boolean surfaceAware;
+
+    /**
+     * Создает решатель, считающий все шаги одинаковыми.
+     */
+    public JumpPointSolver() {
+        this(false);
+    }
+
+    /**
+     * Создает решатель.
+     *
+     * @param surfaceAware учитывать ли стоимость поверхностей
+     */
+    public JumpPointSolver(boolean surfaceAware) {
+        this.surfaceAware = surfaceAware;
+    }
+
+    @Override
+    JumpSearch newSearch() {
+        return new JumpSearch();
+    }
+
+    private static int distance(int a, int b, int width) {
+        return Math.abs(a / width - b / width) + Math.abs(a % width - b % width);
+    }
+
+    private static boolean isValid(MazeGrid maze, int row, int col) {
+        return row >= 0 && row < maze.getHeight() && col >= 0 && col < maze.getWidth()
+            && maze.isPassage(row, col);
+    }
+
+    /**
+     * Рабочие массивы и куча одного поиска с прыжками.
+     */
+    final class JumpSearch extends ReusableSearchSolver.Search {
+
+        private final SearchBuffers buffers = new SearchBuffers();
+        private final NodeHeap openSet = new NodeHeap();
+
+        /**
+         * Находит путь между клетками с заданными индексами поиском с прыжками.
+         *
+         * @param maze лабиринт для решения
+         * @param start индекс начальной клетки
+         * @param end индекс конечной клетки
+         * @param path буфер для найденного пути
+         * @return true, если путь найден
+         */
+        @Override
+        boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+            buffers.prepare(maze, true);
+            buffers.checkCell(start);
+            buffers.checkCell(end);
+            int width = maze.getWidth();
+            openSet.prepare(maze.getHeight() * width);
+            expanded = 0;
+
+            buffers.markSeen(start, start);
+            buffers.setCost(start, 0.0);
+            openSet.pushOrDecrease(start, heuristic(start, end, width));
+
+            while (!openSet.isEmpty()) {
+                int current = openSet.pop();
+                buffers.markClosed(current);
+                expanded++;
+                if (current == end) {
+                    tracePath(start, end, width, path);
+                    return true;
+                }
+                for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+                    jump(maze, current, d, end);
+                }
+            }
+
+            // Путь не найден
+            path.clear();
+            return false;
+        }
+
+        // Идет из клетки по прямой до ближайшей точки прыжка и добавляет ее в кучу
+        private void jump(MazeGrid maze, int from, int dir, int end) {
+            int width = maze.getWidth();
+            int rowStep = SearchBuffers.ROW_STEPS[dir];
+            int colStep = SearchBuffers.COL_STEPS[dir];
+            int row = from / width;
+            int col = from - row * width;
+            double cost = buffers.getCost(from);
+            while (true) {
+                row += rowStep;
+                col += colStep;
+                if (!isValid(maze, row, col)) {
+                    // Коридор без боковых проходов закончился стеной - тупик
+                    return;
+                }
+                cost += stepCost(maze, row, col);
+                int cell = row * width + col;
+                if (cell == end || isJumpPoint(maze, row, col, rowStep == 0)) {
+                    relax(cell, from, cost, end, width);
+                    return;
+                }
+            }
+        }
+
+        // Точка прыжка: есть проход сбоку от направления движения или особая поверхность
+        private boolean isJumpPoint(MazeGrid maze, int row, int col, boolean horizontal) {
+            if (surfaceAware && maze.getSurface(row, col) != SurfaceType.NORMAL) {
+                return true;
+            }
+            if (horizontal) {
+                return isValid(maze, row - 1, col) || isValid(maze, row + 1, col);
+            }
+            return isValid(maze, row, col - 1) || isValid(maze, row, col + 1);
+        }
+
+        private void relax(int cell, int from, double cost, int end, int width) {
+            if (!buffers.isClosed(cell) && cost < buffers.getCost(cell)) {
+                buffers.markSeen(cell, from);
+                buffers.setCost(cell, cost);
+                openSet.pushOrDecrease(cell, cost + heuristic(cell, end, width));
+            }
+        }
+
+        // Манхэттенское расстояние допустимо, только пока каждый шаг стоит не меньше 1
+        private double heuristic(int cell, int end, int width) {
+            if (surfaceAware) {
+                return 0.0;
+            }
+            return Math.abs(cell / width - end / width) + Math.abs(cell % width - end % width);
+        }
+
+        private double stepCost(MazeGrid maze, int row, int col) {
+            return surfaceAware ? Math.max(0.0, maze.getSurface(row, col).getCost()) : 1.0;
+        }
+
+        // Восстанавливает путь, заполняя прямые отрезки между соседними точками прыжка
+        private void tracePath(int start, int end, int width, IntPath path) {
+            int length = 1;
+            for (int cell = end; cell != start; cell = buffers.parentOf(cell)) {
+                length += distance(cell, buffers.parentOf(cell), width);
+            }
+            path.resize(length, width);
+            int index = length - 1;
+            for (int cell = end; cell != start; cell = buffers.parentOf(cell)) {
+                int parent = buffers.parentOf(cell);
+                int step = (parent - cell) / distance(cell, parent, width);
+                for (int walk = cell; walk != parent; walk += step) {
+                    path.set(index--, walk);
+                }
+            }
+            path.set(0, start);
+        }
+    }
+}
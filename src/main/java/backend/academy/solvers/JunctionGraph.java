@@ -0,0 +1,397 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.MazeSnapshot;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Arrays;
+
+/**
+ * Граф развилок лабиринта: каждый максимальный коридор из клеток прохода с двумя соседями
+ * сжимается в одно ребро между узлами - развилками, тупиками и одиночными клетками.
+ * Вес ребра равен сумме стоимостей поверхностей внутренних клеток коридора; отрицательные
+ * стоимости, как и в {@link DialSolver}, заменяются нулем. Клетки каждого коридора лежат подряд
+ * в общем массиве, поэтому полный путь восстанавливается по индексу ребра.
+ * Кольцо без развилок получает один узел на своей первой клетке и становится петлей.
+ * Граф неизменяем и может использоваться из нескольких потоков одновременно.
+ */
+public final class JunctionGraph {
+
+    static final int WALL = Integer.MIN_VALUE;  // Слот стены
+    private static final int UNASSIGNED = -1;  // Слот клетки коридора, еще не отнесенной к ребру
+    private static final int CORRIDOR_DEGREE = 2;  // Число соседей у клетки коридора
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Графы неизменяемых снимков кэшируются по тождеству снимка и удаляются вместе с ним сборщиком мусора
+    private static final LoadingCache<MazeSnapshot, JunctionGraph> CACHE = Caffeine.newBuilder()
+        .weakKeys()
+        .build(JunctionGraph::build);
+
+    private final int cells;
+    private final int passages;
+    // Для узла - его номер, для клетки коридора -(позиция в runs + 2), для стены WALL
+    private final int[] slots;
+    private final int nodeCount;
+    private final int[] nodeCells;
+    private final double[] nodeCosts;
+    private final int edgeCount;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final double[] edgeCosts;
+    private final int[] runStart;  // Начало клеток ребра в runs, runStart[edgeCount] - конец
+    private final int[] runs;
+    private final double[] prefixCosts;  // Сумма стоимостей клеток ребра от его начала до позиции включительно
+    private final int[] adjacencyStart;
+    private final int[] adjacency;  // Записи edge * 2 + направление, 0 - от from к to, 1 - обратно
+
+    // Массивы строятся во временном построителе и только потом присваиваются финальным полям,
+    // поэтому граф из кэша безопасно публикуется другим потокам
+    private JunctionGraph(MazeGrid maze) {
+        long total = (long) maze.getHeight() * maze.getWidth();
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Лабиринт слишком велик для графа развилок: "
+                + maze.getHeight() + "x" + maze.getWidth());
+        }
+        cells = (int) total;
+        Builder builder = new Builder(maze, cells);
+        slots = builder.slots;
+        passages = builder.nodeCount + builder.runs.length;
+        runs = builder.runs;
+        prefixCosts = builder.prefixCosts;
+        // Лишняя емкость массивов построения больше не нужна
+        nodeCount = builder.nodeCount;
+        nodeCells = Arrays.copyOf(builder.nodeCells, nodeCount);
+        nodeCosts = Arrays.copyOf(builder.nodeCosts, nodeCount);
+        edgeCount = builder.edgeCount;
+        edgeFrom = Arrays.copyOf(builder.edgeFrom, edgeCount);
+        edgeTo = Arrays.copyOf(builder.edgeTo, edgeCount);
+        edgeCosts = Arrays.copyOf(builder.edgeCosts, edgeCount);
+        runStart = Arrays.copyOf(builder.runStart, edgeCount + 1);
+        adjacencyStart = adjacencyOffsets(nodeCount, edgeFrom, edgeTo);
+        adjacency = adjacencyEntries(adjacencyStart, edgeFrom, edgeTo);
+    }
+
+    /**
+     * Возвращает граф развилок неизменяемого снимка лабиринта.
+     * Граф строится при первом обращении и кэшируется, пока снимок достижим.
+     * Изменяемые сетки не принимаются: граф для них устарел бы после первого изменения.
+     * Для них нужно получить снимок {@link backend.academy.models.Maze#freeze()}
+     * или построить граф явно через {@link #build}.
+     *
+     * @param maze снимок лабиринта
+     * @return граф развилок лабиринта
+     * @throws IllegalArgumentException если лабиринт не является снимком {@link MazeSnapshot}
+     */
+    public static JunctionGraph of(MazeGrid maze) {
+        if (!(maze instanceof MazeSnapshot snapshot)) {
+            throw new IllegalArgumentException("Граф развилок кэшируется только для снимков MazeSnapshot: "
+                + "используйте Maze.freeze() или передайте решателю граф из JunctionGraph.build");
+        }
+        return CACHE.get(snapshot);
+    }
+
+    /**
+     * Строит граф развилок лабиринта без кэширования.
+     *
+     * @param maze лабиринт
+     * @return новый граф развилок
+     * @throws IllegalArgumentException если лабиринт не помещается в массив по индексам
+     */
+    public static JunctionGraph build(MazeGrid maze) {
+        return new JunctionGraph(maze);
+    }
+
+    /**
+     * Возвращает число узлов графа.
+     *
+     * @return число развилок, тупиков и одиночных клеток
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Возвращает число ребер графа.
+     *
+     * @return число коридоров между узлами
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Возвращает число клеток прохода, из которых построен граф.
+     *
+     * @return число клеток прохода
+     */
+    public int getPassageCount() {
+        return passages;
+    }
+
+    int getCellCount() {
+        return cells;
+    }
+
+    int slotOf(int cell) {
+        return slots[cell];
+    }
+
+    static boolean isNode(int slot) {
+        return slot >= 0;
+    }
+
+    static int runPosition(int slot) {
+        return -slot - 2;
+    }
+
+    // Ребро, которому принадлежит позиция в общем массиве клеток коридоров
+    int edgeOfRun(int position) {
+        int index = Arrays.binarySearch(runStart, 0, edgeCount + 1, position);
+        if (index >= 0) {
+            // У ребер без внутренних клеток то же начало, что у следующего ребра
+            while (runStart[index + 1] == position) {
+                index++;
+            }
+            return index;
+        }
+        return -index - 2;
+    }
+
+    int nodeCell(int node) {
+        return nodeCells[node];
+    }
+
+    double nodeCost(int node) {
+        return nodeCosts[node];
+    }
+
+    int from(int edge) {
+        return edgeFrom[edge];
+    }
+
+    int to(int edge) {
+        return edgeTo[edge];
+    }
+
+    double edgeCost(int edge) {
+        return edgeCosts[edge];
+    }
+
+    int runLength(int edge) {
+        return runStart[edge + 1] - runStart[edge];
+    }
+
+    int runOffset(int edge, int position) {
+        return position - runStart[edge];
+    }
+
+    // Сумма стоимостей клеток ребра с индексами от 0 до index включительно
+    double prefixCost(int edge, int index) {
+        return index < 0 ? 0.0 : prefixCosts[runStart[edge] + index];
+    }
+
+    // Клетка ребра по индексу: -1 - узел from, длина коридора - узел to
+    int cellAt(int edge, int index) {
+        if (index < 0) {
+            return nodeCells[edgeFrom[edge]];
+        }
+        if (index == runLength(edge)) {
+            return nodeCells[edgeTo[edge]];
+        }
+        return runs[runStart[edge] + index];
+    }
+
+    int adjacencyStart(int node) {
+        return adjacencyStart[node];
+    }
+
+    int adjacencyEnd(int node) {
+        return adjacencyStart[node + 1];
+    }
+
+    int adjacencyEntry(int index) {
+        return adjacency[index];
+    }
+
+    // Списки смежности в сжатом виде: записи узла лежат подряд между adjacencyStart[node] и [node + 1]
+    private static int[] adjacencyOffsets(int nodeCount, int[] edgeFrom, int[] edgeTo) {
+        int[] offsets = new int[nodeCount + 1];
+        for (int edge = 0; edge < edgeFrom.length; edge++) {
+            offsets[edgeFrom[edge] + 1]++;
+            offsets[edgeTo[edge] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        return offsets;
+    }
+
+    private static int[] adjacencyEntries(int[] offsets, int[] edgeFrom, int[] edgeTo) {
+        int nodeCount = offsets.length - 1;
+        int[] entries = new int[offsets[nodeCount]];
+        int[] fill = Arrays.copyOf(offsets, nodeCount);
+        for (int edge = 0; edge < edgeFrom.length; edge++) {
+            entries[fill[edgeFrom[edge]]++] = edge * 2;
+            entries[fill[edgeTo[edge]]++] = edge * 2 + 1;
+        }
+        return entries;
+    }
+
+    // Единственный сосед клетки коридора, отличный от предыдущей клетки
+    private static int nextInCorridor(MazeGrid maze, int cell, int previous, int width) {
+        int row = cell / width;
+        int col = cell - row * width;
+        for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+            int newRow = row + SearchBuffers.ROW_STEPS[d];
+            int newCol = col + SearchBuffers.COL_STEPS[d];
+            int next = newRow * width + newCol;
+            if (next != previous && isValid(maze, newRow, newCol)) {
+                return next;
+            }
+        }
+        throw new IllegalStateException("Клетка коридора без продолжения: " + cell);
+    }
+
+    private static int degree(MazeGrid maze, int row, int col) {
+        int count = 0;
+        for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+            if (isValid(maze, row + SearchBuffers.ROW_STEPS[d], col + SearchBuffers.COL_STEPS[d])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double stepCost(MazeGrid maze, int cell) {
+        int width = maze.getWidth();
+        return Math.max(0.0, maze.getSurface(cell / width, cell % width).getCost());
+    }
+
+    private static boolean isValid(MazeGrid maze, int row, int col) {
+        return row >= 0 && row < maze.getHeight() && col >= 0 && col < maze.getWidth()
+            && maze.isPassage(row, col);
+    }
+
+    /**
+     * Растущие массивы и разметка клеток на время построения графа.
+     */
+    private static final class Builder {
+
+        private final MazeGrid maze;
+        private final int[] slots;
+        private final int[] runs;
+        private final double[] prefixCosts;
+        private int runSize;
+        private int[] nodeCells = new int[INITIAL_CAPACITY];
+        private double[] nodeCosts = new double[INITIAL_CAPACITY];
+        private int nodeCount;
+        private int[] edgeFrom = new int[INITIAL_CAPACITY];
+        private int[] edgeTo = new int[INITIAL_CAPACITY];
+        private double[] edgeCosts = new double[INITIAL_CAPACITY];
+        private int[] runStart = new int[INITIAL_CAPACITY];
+        private int edgeCount;
+
+        Builder(MazeGrid maze, int cells) {
+            this.maze = maze;
+            slots = new int[cells];
+            int corridorCells = classifyCells();
+            runs = new int[corridorCells];
+            prefixCosts = new double[corridorCells];
+
+            int junctions = nodeCount;
+            for (int node = 0; node < junctions; node++) {
+                traceEdges(node);
+            }
+            // Оставшиеся клетки коридоров образуют кольца без развилок
+            for (int cell = 0; cell < cells; cell++) {
+                if (slots[cell] == UNASSIGNED) {
+                    slots[cell] = addNode(cell);
+                    traceEdges(slots[cell]);
+                }
+            }
+        }
+
+        // Размечает стены, узлы и клетки коридоров, возвращает число клеток коридоров
+        private int classifyCells() {
+            int width = maze.getWidth();
+            int corridorCells = 0;
+            for (int row = 0; row < maze.getHeight(); row++) {
+                for (int col = 0; col < width; col++) {
+                    int cell = row * width + col;
+                    if (!maze.isPassage(row, col)) {
+                        slots[cell] = WALL;
+                    } else if (degree(maze, row, col) == CORRIDOR_DEGREE) {
+                        slots[cell] = UNASSIGNED;
+                        corridorCells++;
+                    } else {
+                        slots[cell] = addNode(cell);
+                    }
+                }
+            }
+            return corridorCells;
+        }
+
+        private int addNode(int cell) {
+            if (nodeCount == nodeCells.length) {
+                nodeCells = Arrays.copyOf(nodeCells, nodeCount * 2);
+                nodeCosts = Arrays.copyOf(nodeCosts, nodeCount * 2);
+            }
+            nodeCells[nodeCount] = cell;
+            nodeCosts[nodeCount] = stepCost(maze, cell);
+            return nodeCount++;
+        }
+
+        // Проходит коридоры во всех направлениях от узла, еще не пройденные с другого конца
+        private void traceEdges(int node) {
+            int width = maze.getWidth();
+            int cell = nodeCells[node];
+            int row = cell / width;
+            int col = cell - row * width;
+            for (int d = 0; d < SearchBuffers.ROW_STEPS.length; d++) {
+                int newRow = row + SearchBuffers.ROW_STEPS[d];
+                int newCol = col + SearchBuffers.COL_STEPS[d];
+                if (!isValid(maze, newRow, newCol)) {
+                    continue;
+                }
+                int next = newRow * width + newCol;
+                int slot = slots[next];
+                // Соседние узлы соединяются ребром без внутренних клеток один раз, со стороны меньшего номера
+                if (slot == UNASSIGNED || isNode(slot) && node < slot) {
+                    walkCorridor(node, cell, next);
+                }
+            }
+        }
+
+        // Идет по коридору от узла до следующего узла, записывая клетки коридора в новое ребро
+        private void walkCorridor(int node, int nodeCell, int first) {
+            int width = maze.getWidth();
+            int previous = nodeCell;
+            int current = first;
+            double cost = 0.0;
+            while (slots[current] == UNASSIGNED) {
+                slots[current] = -(runSize + 2);
+                cost += stepCost(maze, current);
+                runs[runSize] = current;
+                prefixCosts[runSize++] = cost;
+                int next = nextInCorridor(maze, current, previous, width);
+                previous = current;
+                current = next;
+            }
+            addEdge(node, slots[current], cost);
+        }
+
+        private void addEdge(int from, int to, double cost) {
+            if (edgeCount + 1 == runStart.length) {
+                int capacity = runStart.length * 2;
+                edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+                edgeTo = Arrays.copyOf(edgeTo, capacity);
+                edgeCosts = Arrays.copyOf(edgeCosts, capacity);
+                runStart = Arrays.copyOf(runStart, capacity);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeCosts[edgeCount] = cost;
+            runStart[++edgeCount] = runSize;
+        }
+    }
+}
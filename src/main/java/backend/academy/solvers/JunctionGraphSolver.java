@@ -0,0 +1,268 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
+import java.util.Arrays;
+
+/**
+ * Поиск пути наименьшей стоимости алгоритмом Дейкстры по графу развилок {@link JunctionGraph}.
+ * Граф строится один раз на лабиринт: по умолчанию он берется из кэша {@link JunctionGraph#of},
+ * поэтому поиск принимает только снимки {@link backend.academy.models.MazeSnapshot}.
+ * Для изменяемого лабиринта граф можно построить заранее и передать в конструктор.
+ * Каждый поиск раскрывает только развилки и тупики, проходя коридор целиком за одно ребро.
+ * Начальная и конечная клетки внутри коридора подключаются к концам своего ребра
+ * частичными стоимостями, а если они лежат в одном коридоре, учитывается и прямой путь по нему.
+ * Стоимости те же, что у {@link DialSolver}: монетка считается нулевой.
+ * Путь к стене не ищется: если начальная или конечная клетка - стена, возвращается пустой путь.
+ * Поиск по координатам выделяет свои рабочие массивы на каждый вызов, а поиск по индексам
+ * переиспользует массивы текущего потока, поэтому общий экземпляр можно вызывать из нескольких потоков.
+ */
+public class JunctionGraphSolver extends ReusableSearchSolver<JunctionGraphSolver.GraphSearch> {
+
+    private static final int SOURCE = -1;  // Предшественник узла, достигнутого прямо из начальной клетки
+    private static final int NO_EDGE = -1;  // Узел совпадает с начальной клеткой
+
+    private final JunctionGraph graph;  // Заранее построенный граф или null, если граф берется из JunctionGraph.of
+
+    /**
+     * Создает решатель, который берет граф снимка лабиринта из {@link JunctionGraph#of}.
+     * Поиск по изменяемому лабиринту такой решатель отклоняет с {@link IllegalArgumentException}.
+     */
+    public JunctionGraphSolver() {
+        this.graph = null;
+    }
+
+    /**
+     * Создает решатель с заранее построенным графом.
+     * Граф должен соответствовать текущему состоянию лабиринта, который передается в поиск:
+     * после изменения лабиринта граф нужно построить заново.
+     *
+     * @param graph граф развилок лабиринта
+     * @throws IllegalArgumentException если граф не указан
+     */
+    public JunctionGraphSolver(JunctionGraph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Не указан граф развилок");
+        }
+        this.graph = graph;
+    }
+
+    @Override
+    GraphSearch newSearch() {
+        return new GraphSearch(graph);
+    }
+
+    /**
+     * Рабочие массивы одного поиска по графу развилок.
+     */
+    static final class GraphSearch extends ReusableSearchSolver.Search {
+
+        private final NodeHeap openSet = new NodeHeap();
+        private double[] costs = new double[0];
+        private int[] predecessors = new int[0];
+        private int[] vias = new int[0];  // Ребро и направление, которыми узел достигнут: edge * 2 + направление
+        private int[] seen = new int[0];
+        private int[] closed = new int[0];
+        private int generation;
+
+        private final JunctionGraph prebuilt;
+        private JunctionGraph graph;
+        private int startEdge;
+        private int startIndex;
+        private int endEdge;
+        private int endIndex;
+        private int target;
+
+        GraphSearch(JunctionGraph prebuilt) {
+            this.prebuilt = prebuilt;
+        }
+
+        /**
+         * Находит путь наименьшей стоимости между клетками с заданными индексами.
+         *
+         * @param maze лабиринт для решения
+         * @param start индекс начальной клетки
+         * @param end индекс конечной клетки
+         * @param path буфер для найденного пути
+         * @return true, если путь найден
+         */
+        @Override
+        boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+            graph = prebuilt != null ? prebuilt : JunctionGraph.of(maze);
+            if (graph.getCellCount() != (long) maze.getHeight() * maze.getWidth()) {
+                throw new IllegalArgumentException("Граф развилок построен для лабиринта другого размера: "
+                    + maze.getHeight() + "x" + maze.getWidth());
+            }
+            checkCell(start);
+            checkCell(end);
+            expanded = 0;
+            int startSlot = graph.slotOf(start);
+            int endSlot = graph.slotOf(end);
+            if (startSlot == JunctionGraph.WALL || endSlot == JunctionGraph.WALL) {
+                path.clear();
+                return false;
+            }
+            if (start == end) {
+                path.resize(1, maze.getWidth());
+                path.set(0, start);
+                return true;
+            }
+            prepare(graph.getNodeCount() + 1);
+            seedStart(startSlot);
+            locateEnd(endSlot);
+
+            while (!openSet.isEmpty()) {
+                int current = openSet.pop();
+                closed[current] = generation;
+                expanded++;
+                if (current == target) {
+                    tracePath(start, maze.getWidth(), path);
+                    return true;
+                }
+                relaxEdges(current);
+                if (endEdge != NO_EDGE) {
+                    connectEnd(current);
+                }
+            }
+
+            // Путь не найден
+            path.clear();
+            return false;
+        }
+
+        private void checkCell(int cell) {
+            if (cell < 0 || cell >= graph.getCellCount()) {
+                throw new IndexOutOfBoundsException("Клетка вне лабиринта: " + cell);
+            }
+        }
+
+        // Размер массивов - число узлов и виртуальный узел конечной клетки внутри коридора
+        private void prepare(int nodes) {
+            if (seen.length < nodes) {
+                costs = new double[nodes];
+                predecessors = new int[nodes];
+                vias = new int[nodes];
+                seen = new int[nodes];
+                closed = new int[nodes];
+            }
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(seen, 0);
+                Arrays.fill(closed, 0);
+                generation = 0;
+            }
+            generation++;
+            openSet.prepare(nodes);
+        }
+
+        // Начальный узел или оба конца коридора, в котором лежит начальная клетка
+        private void seedStart(int slot) {
+            if (JunctionGraph.isNode(slot)) {
+                startEdge = NO_EDGE;
+                reach(slot, 0.0, SOURCE, NO_EDGE);
+                return;
+            }
+            int position = JunctionGraph.runPosition(slot);
+            startEdge = graph.edgeOfRun(position);
+            startIndex = graph.runOffset(startEdge, position);
+            double before = graph.prefixCost(startEdge, startIndex - 1);
+            double through = graph.prefixCost(startEdge, startIndex);
+            int from = graph.from(startEdge);
+            int to = graph.to(startEdge);
+            reach(from, before + graph.nodeCost(from), SOURCE, startEdge * 2 + 1);
+            reach(to, graph.edgeCost(startEdge) - through + graph.nodeCost(to), SOURCE, startEdge * 2);
+        }
+
+        // Целевой узел или виртуальный узел для конечной клетки внутри коридора
+        private void locateEnd(int slot) {
+            if (JunctionGraph.isNode(slot)) {
+                endEdge = NO_EDGE;
+                target = slot;
+                return;
+            }
+            int position = JunctionGraph.runPosition(slot);
+            endEdge = graph.edgeOfRun(position);
+            endIndex = graph.runOffset(endEdge, position);
+            target = graph.getNodeCount();
+            // Обе клетки в одном коридоре: путь по нему, не заходя в узлы
+            if (startEdge == endEdge) {
+                double direct = endIndex > startIndex
+                    ? graph.prefixCost(endEdge, endIndex) - graph.prefixCost(endEdge, startIndex)
+                    : graph.prefixCost(endEdge, startIndex - 1) - graph.prefixCost(endEdge, endIndex - 1);
+                reach(target, direct, SOURCE, endEdge * 2 + (endIndex > startIndex ? 0 : 1));
+            }
+        }
+
+        private void relaxEdges(int node) {
+            for (int i = graph.adjacencyStart(node); i < graph.adjacencyEnd(node); i++) {
+                int entry = graph.adjacencyEntry(i);
+                int edge = entry >> 1;
+                int next = (entry & 1) == 0 ? graph.to(edge) : graph.from(edge);
+                reach(next, costs[node] + graph.edgeCost(edge) + graph.nodeCost(next), node, entry);
+            }
+        }
+
+        // Из концов коридора конечной клетки можно дойти до нее по части коридора
+        private void connectEnd(int node) {
+            if (node == graph.from(endEdge)) {
+                reach(target, costs[node] + graph.prefixCost(endEdge, endIndex), node, endEdge * 2);
+            }
+            if (node == graph.to(endEdge)) {
+                double rest = graph.edgeCost(endEdge) - graph.prefixCost(endEdge, endIndex - 1);
+                reach(target, costs[node] + rest, node, endEdge * 2 + 1);
+            }
+        }
+
+        private void reach(int node, double cost, int predecessor, int via) {
+            if (closed[node] == generation || seen[node] == generation && cost >= costs[node]) {
+                return;
+            }
+            seen[node] = generation;
+            costs[node] = cost;
+            predecessors[node] = predecessor;
+            vias[node] = via;
+            openSet.pushOrDecrease(node, cost);
+        }
+
+        // Восстанавливает путь по цепочке узлов, разворачивая каждое ребро в клетки коридора
+        private void tracePath(int start, int width, IntPath path) {
+            int length = 1;
+            for (int node = target; vias[node] != NO_EDGE; node = predecessors[node]) {
+                length += Math.abs(segmentEnd(node) - segmentStart(node));
+                if (predecessors[node] == SOURCE) {
+                    break;
+                }
+            }
+            path.resize(length, width);
+            int index = length - 1;
+            for (int node = target; vias[node] != NO_EDGE; node = predecessors[node]) {
+                int edge = vias[node] >> 1;
+                int first = segmentStart(node);
+                int step = segmentEnd(node) > first ? 1 : -1;
+                for (int i = segmentEnd(node); i != first; i -= step) {
+                    path.set(index--, graph.cellAt(edge, i));
+                }
+                if (predecessors[node] == SOURCE) {
+                    break;
+                }
+            }
+            path.set(0, start);
+        }
+
+        // Индекс клетки ребра, с которой начинается отрезок пути до узла (сама клетка в отрезок не входит)
+        private int segmentStart(int node) {
+            int edge = vias[node] >> 1;
+            if (predecessors[node] == SOURCE) {
+                return startIndex;
+            }
+            return (vias[node] & 1) == 0 ? -1 : graph.runLength(edge);
+        }
+
+        // Индекс клетки ребра, которой отрезок заканчивается
+        private int segmentEnd(int node) {
+            if (node == target && endEdge != NO_EDGE) {
+                return endIndex;
+            }
+            return (vias[node] & 1) == 0 ? graph.runLength(vias[node] >> 1) : -1;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package backend.academy.solvers;
+
+import java.util.Arrays;
+
+/**
+ * Индексированная четверичная куча клеток с приоритетом типа double.
+ * У узла четыре потомка, поэтому куча вдвое ниже двоичной, а потомки лежат рядом в памяти.
+ * Хранит пары в двух параллельных массивах, чтобы не создавать объект на каждую запись,
+ * а позицию каждой клетки в куче - в массиве по индексу клетки. Благодаря этому клетка
+ * находится в куче не больше одного раза, и ее приоритет можно уменьшить на месте
+ * вместо добавления повторной записи.
+ */
+final class NodeHeap {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ABSENT = -1;  // Клетки нет в куче
+    private static final int ARITY = 4;  // Число потомков узла
+
+    private int[] nodes = new int[INITIAL_CAPACITY];
+    private double[] keys = new double[INITIAL_CAPACITY];
+    private int[] position = new int[0];
+    private int size;
+
+    /**
+     * Очищает кучу и готовит массив позиций для лабиринта с заданным числом клеток.
+     *
+     * @param cells число клеток лабиринта
+     */
+    void prepare(int cells) {
+        clear();
+        if (position.length < cells) {
+            position = new int[cells];
+            Arrays.fill(position, ABSENT);
+        }
+    }
+
+    // Сбрасывает позиции только оставшихся записей, извлеченные клетки уже помечены
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[nodes[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает наименьший приоритет в куче, не извлекая клетку.
+     *
+     * @return наименьший приоритет
+     */
+    double peekKey() {
+        return keys[0];
+    }
+
+    /**
+     * Добавляет клетку или уменьшает ее приоритет, если она уже в куче.
+     * Больший приоритет для клетки в куче игнорируется.
+     *
+     * @param node индекс клетки
+     * @param key приоритет, меньший извлекается раньше
+     */
+    void pushOrDecrease(int node, double key) {
+        int i = position[node];
+        if (i == ABSENT) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            i = size++;
+        } else if (keys[i] <= key) {
+            return;
+        }
+        siftUp(i, node, key);
+    }
+
+    /**
+     * Извлекает клетку с наименьшим приоритетом.
+     *
+     * @return индекс клетки
+     */
+    int pop() {
+        int top = nodes[0];
+        position[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            siftDown(nodes[size], keys[size]);
+        }
+        return top;
+    }
+
+    private void siftUp(int start, int node, double key) {
+        int i = start;
+        while (i > 0) {
+            int up = (i - 1) / ARITY;
+            if (keys[up] <= key) {
+                break;
+            }
+            place(i, nodes[up], keys[up]);
+            i = up;
+        }
+        place(i, node, key);
+    }
+
+    private void siftDown(int node, double key) {
+        int i = 0;
+        int first = 1;
+        while (first < size) {
+            // Наименьший из потомков узла
+            int child = first;
+            int last = Math.min(first + ARITY, size);
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < keys[child]) {
+                    child = c;
+                }
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(i, nodes[child], keys[child]);
+            i = child;
+            first = ARITY * i + 1;
+        }
+        place(i, node, key);
+    }
+
+    private void place(int i, int node, double key) {
+        nodes[i] = node;
+        keys[i] = key;
+        position[node] = i;
+    }
+}
@@ -0,0 +1,101 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.IndexedSolver;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.interfaces.Solver;
+import backend.academy.models.Coordinate;
+import backend.academy.models.IntPath;
+import java.util.List;
+
+/**
+ * Основа решателей с рабочими массивами размером с лабиринт.
+ * Поиск по координатам создает собственное рабочее состояние на каждый вызов, как решатели без состояния.
+ * Поиск по индексам переиспользует рабочее состояние текущего потока между вызовами.
+ * Поэтому один экземпляр решателя можно вызывать из нескольких потоков одновременно.
+ * Массивы потока растут до самого большого лабиринта, решенного в нем по индексам, и хранятся,
+ * пока поток жив; в пуле потоков их можно освободить вызовом {@link #release()}.
+ *
+ * @param <S> рабочее состояние одного поиска
+ */
+abstract class ReusableSearchSolver<S extends ReusableSearchSolver.Search> implements Solver, IndexedSolver {
+
+    private final ThreadLocal<ThreadState<S>> states = ThreadLocal.withInitial(ThreadState::new);
+
+    /**
+     * Находит путь от начальной точки до конечной.
+     *
+     * @param maze лабиринт для решения
+     * @param start начальная точка
+     * @param end конечная точка
+     * @return список координат, представляющий путь, или пустой список, если путь не найден
+     */
+    @Override
+    public List<Coordinate> solve(MazeGrid maze, Coordinate start, Coordinate end) {
+        S search = newSearch();
+        IntPath path = new IntPath();
+        boolean found = search.solve(maze, maze.toIndex(start.row(), start.col()),
+            maze.toIndex(end.row(), end.col()), path);
+        states.get().expanded = search.expanded;
+        return found ? path.toCoordinates() : List.of();
+    }
+
+    /**
+     * Находит путь между клетками с заданными индексами, переиспользуя рабочие массивы текущего потока.
+     *
+     * @param maze лабиринт для решения
+     * @param start индекс начальной клетки
+     * @param end индекс конечной клетки
+     * @param path буфер для найденного пути
+     * @return true, если путь найден
+     */
+    @Override
+    public boolean solve(MazeGrid maze, int start, int end, IntPath path) {
+        ThreadState<S> state = states.get();
+        if (state.search == null) {
+            state.search = newSearch();
+        }
+        boolean found = state.search.solve(maze, start, end, path);
+        state.expanded = state.search.expanded;
+        return found;
+    }
+
+    /**
+     * Возвращает число клеток или узлов, раскрытых последним поиском в текущем потоке.
+     *
+     * @return число раскрытых клеток
+     */
+    public int getExpandedCount() {
+        return states.get().expanded;
+    }
+
+    /**
+     * Освобождает рабочие массивы текущего потока; следующий поиск по индексам выделит их заново.
+     */
+    public void release() {
+        states.remove();
+    }
+
+    /**
+     * Создает пустое рабочее состояние; массивы выделяются при первом поиске.
+     *
+     * @return новое рабочее состояние
+     */
+    abstract S newSearch();
+
+    /**
+     * Рабочее состояние одного поиска. Используется только одним потоком одновременно.
+     */
+    abstract static class Search {
+
+        int expanded;  // Число клеток, раскрытых последним поиском
+
+        abstract boolean solve(MazeGrid maze, int start, int end, IntPath path);
+    }
+
+    // Состояние потока: поиск создается только при первом поиске по индексам
+    private static final class ThreadState<S> {
+
+        private S search;
+        private int expanded;
+    }
+}
@@ -0,0 +1,154 @@
+package backend.academy.solvers;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.IntPath;
+import java.util.Arrays;
+
+/**
+ * Рабочие массивы поиска, переиспользуемые между вызовами решателя.
+ * Вместо очистки массивов перед каждым поиском клетки помечаются номером поиска:
+ * метка считается установленной, только если совпадает с номером текущего поиска.
+ */
+final class SearchBuffers {
+
+    static final int[] ROW_STEPS = {-1, 1, 0, 0};  // Вверх, вниз, влево, вправо
+    static final int[] COL_STEPS = {0, 0, -1, 1};
+
+    private int width;
+    private int cells;
+    private int generation;
+    private int[] parent = new int[0];
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    private double[] cost = new double[0];
+
+    /**
+     * Готовит массивы к новому поиску в лабиринте.
+     *
+     * @param maze лабиринт
+     * @param weighted нужны ли массивы стоимостей и закрытых клеток
+     */
+    void prepare(MazeGrid maze, boolean weighted) {
+        long total = (long) maze.getHeight() * maze.getWidth();
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Лабиринт слишком велик для поиска по индексам: "
+                + maze.getHeight() + "x" + maze.getWidth());
+        }
+        width = maze.getWidth();
+        cells = (int) total;
+        // Новые массивы заполнены нулями, а номер поиска всегда положителен, поэтому его не сбрасываем
+        if (parent.length < cells) {
+            parent = new int[cells];
+            seen = new int[cells];
+        }
+        if (weighted && closed.length < cells) {
+            closed = new int[cells];
+            cost = new double[cells];
+        }
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    /**
+     * Проверяет, что индекс клетки лежит внутри лабиринта.
+     *
+     * @param cell индекс клетки
+     */
+    void checkCell(int cell) {
+        if (cell < 0 || cell >= cells) {
+            throw new IndexOutOfBoundsException("Клетка вне лабиринта: " + cell);
+        }
+    }
+
+    boolean isSeen(int cell) {
+        return seen[cell] == generation;
+    }
+
+    void markSeen(int cell, int from) {
+        seen[cell] = generation;
+        parent[cell] = from;
+    }
+
+    int parentOf(int cell) {
+        return parent[cell];
+    }
+
+    boolean isClosed(int cell) {
+        return closed[cell] == generation;
+    }
+
+    void markClosed(int cell) {
+        closed[cell] = generation;
+    }
+
+    double getCost(int cell) {
+        return isSeen(cell) ? cost[cell] : Double.MAX_VALUE;
+    }
+
+    void setCost(int cell, double value) {
+        cost[cell] = value;
+    }
+
+    /**
+     * Склеивает путь встречного поиска: от начальной клетки до точки встречи по предшественникам
+     * прямого поиска и от точки встречи до конечной клетки по предшественникам обратного.
+     *
+     * @param forward буферы поиска от начальной клетки
+     * @param backward буферы поиска от конечной клетки
+     * @param start индекс начальной клетки
+     * @param meet индекс клетки, достигнутой обоими поисками
+     * @param end индекс конечной клетки
+     * @param path буфер для пути
+     */
+    static void joinPaths(SearchBuffers forward, SearchBuffers backward, int start, int meet, int end, IntPath path) {
+        int head = 1;
+        for (int cell = meet; cell != start; cell = forward.parent[cell]) {
+            head++;
+        }
+        int tail = 0;
+        for (int cell = meet; cell != end; cell = backward.parent[cell]) {
+            tail++;
+        }
+        path.resize(head + tail, forward.width);
+        int cell = meet;
+        for (int i = head - 1; i >= 0; i--) {
+            path.set(i, cell);
+            cell = forward.parent[cell];
+        }
+        cell = meet;
+        for (int i = head; i < head + tail; i++) {
+            cell = backward.parent[cell];
+            path.set(i, cell);
+        }
+    }
+
+    /**
+     * Восстанавливает путь по предшественникам от конечной клетки к начальной.
+     *
+     * @param start индекс начальной клетки
+     * @param end индекс конечной клетки
+     * @param path буфер для пути
+     * @return true, если конечная клетка была достигнута
+     */
+    boolean tracePath(int start, int end, IntPath path) {
+        if (!isSeen(end)) {
+            path.clear();
+            return false;
+        }
+        int length = 1;
+        for (int cell = end; cell != start; cell = parent[cell]) {
+            length++;
+        }
+        path.resize(length, width);
+        int cell = end;
+        for (int i = length - 1; i >= 0; i--) {
+            path.set(i, cell);
+            cell = parent[cell];
+        }
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package backend.academy.storage;
+
+import backend.academy.interfaces.CellStorage;
+
+/**
+ * Хранилище клеток в массиве байтов в куче, по одному байту на клетку.
+ */
+public final class HeapCellStorage implements CellStorage {
+
+    private static final int MAX_CELLS = Integer.MAX_VALUE - 8;  // Предельный размер массива в JVM
+
+    private final int height;
+    private final int width;
+    private final byte[] cells;  // Упакованные клетки построчно
+
+    /**
+     * Создает хранилище, заполненное стенами.
+     *
+     * @param height высота сетки
+     * @param width ширина сетки
+     * @throws IllegalArgumentException если размеры отрицательны или сетка не помещается в массив
+     */
+    public HeapCellStorage(int height, int width) {
+        if (height < 0 || width < 0 || (long) height * width > MAX_CELLS) {
+            throw new IllegalArgumentException("Недопустимый размер лабиринта: " + height + "x" + width);
+        }
+        this.height = height;
+        this.width = width;
+        this.cells = new byte[height * width];  // Нулевой байт - стена с обычной поверхностью
+    }
+
+    @Override
+    public byte get(int row, int col) {
+        return cells[row * width + col];
+    }
+
+    @Override
+    public void set(int row, int col, byte packed) {
+        cells[row * width + col] = packed;
+    }
+
+    @Override
+    public void readRow(int row, byte[] target, int offset) {
+        System.arraycopy(cells, row * width, target, offset, width);
+    }
+
+    @Override
+    public void writeRow(int row, byte[] source, int offset) {
+        System.arraycopy(source, offset, cells, row * width, width);
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+}
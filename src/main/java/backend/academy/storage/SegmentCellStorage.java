@@ -0,0 +1,163 @@
+package backend.academy.storage;
+
+import backend.academy.interfaces.CellStorage;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Хранилище клеток вне кучи на основе FFM API.
+ * Память выделяется в общей арене либо отображается из файла, поэтому размер лабиринта
+ * ограничен адресным пространством и диском, а не размером кучи.
+ *
+ * <p>Файл лабиринта начинается с заголовка (сигнатура, высота, ширина), за которым построчно
+ * идут упакованные клетки. Такой файл можно открыть повторно без повторной генерации.
+ * Хранилище нужно закрыть, чтобы освободить память или отпустить файл.
+ */
+public final class SegmentCellStorage implements CellStorage {
+
+    private static final int MAGIC = 0x4D5A4331;  // "MZC1"
+    private static final long HEIGHT_OFFSET = Integer.BYTES;
+    private static final long WIDTH_OFFSET = HEIGHT_OFFSET + Integer.BYTES;
+    private static final long HEADER_SIZE = WIDTH_OFFSET + Integer.BYTES;
+    private static final ValueLayout.OfInt HEADER_INT =
+        ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment cells;  // Упакованные клетки построчно
+    private final int height;
+    private final int width;
+
+    private SegmentCellStorage(Arena arena, MemorySegment cells, int height, int width) {
+        this.arena = arena;
+        this.cells = cells;
+        this.height = height;
+        this.width = width;
+    }
+
+    /**
+     * Выделяет заполненное стенами хранилище вне кучи.
+     *
+     * @param height высота сетки
+     * @param width ширина сетки
+     * @return новое хранилище
+     */
+    public static SegmentCellStorage allocate(int height, int width) {
+        checkSize(height, width);
+        Arena arena = Arena.ofShared();
+        MemorySegment segment = arena.allocate(Math.max(1L, (long) height * width));
+        return new SegmentCellStorage(arena, segment, height, width);
+    }
+
+    /**
+     * Создает новый файл лабиринта, заполненный стенами, и отображает его в память.
+     *
+     * @param file путь к создаваемому файлу
+     * @param height высота сетки
+     * @param width ширина сетки
+     * @return хранилище, изменения которого записываются в файл
+     * @throws IOException если файл уже существует или не может быть создан
+     */
+    public static SegmentCellStorage create(Path file, int height, int width) throws IOException {
+        checkSize(height, width);
+        long size = HEADER_SIZE + (long) height * width;
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            mapped.set(HEADER_INT, 0, MAGIC);
+            mapped.set(HEADER_INT, HEIGHT_OFFSET, height);
+            mapped.set(HEADER_INT, WIDTH_OFFSET, width);
+            return new SegmentCellStorage(arena, mapped.asSlice(HEADER_SIZE), height, width);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Открывает ранее созданный файл лабиринта.
+     *
+     * @param file путь к файлу лабиринта
+     * @return хранилище, отображенное на файл
+     * @throws IOException если файл не читается или не является файлом лабиринта
+     */
+    public static SegmentCellStorage open(Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Файл слишком мал для лабиринта: " + file);
+            }
+            MemorySegment mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+            int height = mapped.get(HEADER_INT, HEIGHT_OFFSET);
+            int width = mapped.get(HEADER_INT, WIDTH_OFFSET);
+            if (mapped.get(HEADER_INT, 0) != MAGIC || height < 0 || width < 0
+                || fileSize != HEADER_SIZE + (long) height * width) {
+                throw new IOException("Файл не является файлом лабиринта: " + file);
+            }
+            return new SegmentCellStorage(arena, mapped.asSlice(HEADER_SIZE), height, width);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Сбрасывает изменения отображенного файла на диск. Для памяти вне файла ничего не делает.
+     */
+    public void flush() {
+        if (cells.isMapped()) {
+            cells.force();
+        }
+    }
+
+    @Override
+    public byte get(int row, int col) {
+        return cells.get(ValueLayout.JAVA_BYTE, (long) row * width + col);
+    }
+
+    @Override
+    public void set(int row, int col, byte packed) {
+        cells.set(ValueLayout.JAVA_BYTE, (long) row * width + col, packed);
+    }
+
+    @Override
+    public void readRow(int row, byte[] target, int offset) {
+        MemorySegment.copy(cells, ValueLayout.JAVA_BYTE, (long) row * width, target, offset, width);
+    }
+
+    @Override
+    public void writeRow(int row, byte[] source, int offset) {
+        MemorySegment.copy(source, offset, cells, ValueLayout.JAVA_BYTE, (long) row * width, width);
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Освобождает память или отпускает отображенный файл.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private static void checkSize(int height, int width) {
+        if (height < 0 || width < 0) {
+            throw new IllegalArgumentException("Недопустимый размер лабиринта: " + height + "x" + width);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package backend.academy.storage;
+
+import backend.academy.interfaces.CellStorage;
+import backend.academy.models.CellCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Хранилище клеток, разбитое на квадратные плитки, которые создаются только при первой записи.
+ * Непрочитанные и нетронутые плитки считаются сплошными стенами и не занимают памяти.
+ * Когда число плиток в памяти превышает бюджет, давно не использованные плитки (LRU)
+ * выгружаются во временный файл и подгружаются обратно при следующем обращении.
+ *
+ * <p>Плитки адресуются номером типа long, поэтому общее число клеток может превышать
+ * {@link Integer#MAX_VALUE}. Хранилище не потокобезопасно; после работы его нужно закрыть,
+ * чтобы удалить файл подкачки.
+ *
+ * <p>Сетки больше {@link Integer#MAX_VALUE} клеток поддерживают не все алгоритмы:
+ * <ul>
+ *   <li>решатели индексируют клетки числом int и отклоняют такие сетки;</li>
+ *   <li>{@link backend.academy.generators.PrimGenerator} индексирует стены сетки числом int
+ *       и тоже их отклоняет;</li>
+ *   <li>{@link backend.academy.generators.ArrayBacktrackerGenerator} и
+ *       {@link backend.academy.generators.KruskalGenerator} индексируют только логические клетки
+ *       (с нечетными координатами) и работают на сетках примерно до 2^33 и 2^32 клеток;</li>
+ *   <li>{@link backend.academy.generators.RecursiveBacktrackerGenerator},
+ *       {@link backend.academy.generators.HuntAndKillGenerator}, {@link backend.academy.generators.EllerGenerator},
+ *       {@link backend.academy.generators.BinaryTreeGenerator} и {@link backend.academy.generators.SidewinderGenerator}
+ *       в последовательном режиме размером сетки не ограничены.</li>
+ * </ul>
+ * Параллельные генераторы и параллельное добавление циклов требуют потокобезопасной сетки
+ * и с этим хранилищем не используются.
+ */
+public final class TiledCellStorage implements CellStorage {
+
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int WORD_SHIFT = 6;  // 64 бита в слове long
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int height;
+    private final int width;
+    private final int tileShift;  // log2 размера плитки
+    private final int tileMask;   // Маска координаты внутри плитки
+    private final long tilesPerRow;
+    private final int maxResidentTiles;
+    private final Map<Long, Tile> resident = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private final long[] spilled;  // Битовая карта плиток, выгруженных в файл
+    private final Path spillFile;
+    private final FileChannel channel;
+
+    private long lastIndex = -1;  // Последняя использованная плитка, чтобы не искать ее в карте
+    private Tile lastTile;
+
+    /**
+     * Создает хранилище с плитками по умолчанию.
+     *
+     * @param height высота сетки
+     * @param width ширина сетки
+     * @param memoryBudget максимальный объем плиток в памяти в байтах
+     * @param spillDirectory каталог для временного файла подкачки
+     * @throws IOException если файл подкачки не удалось создать
+     */
+    public TiledCellStorage(int height, int width, long memoryBudget, Path spillDirectory) throws IOException {
+        this(height, width, DEFAULT_TILE_SIZE, memoryBudget, spillDirectory);
+    }
+
+    /**
+     * Создает хранилище с заданным размером плитки.
+     *
+     * @param height высота сетки
+     * @param width ширина сетки
+     * @param tileSize сторона плитки в клетках (степень двойки)
+     * @param memoryBudget максимальный объем плиток в памяти в байтах (не меньше одной плитки)
+     * @param spillDirectory каталог для временного файла подкачки
+     * @throws IOException если файл подкачки не удалось создать
+     */
+    public TiledCellStorage(int height, int width, int tileSize, long memoryBudget, Path spillDirectory)
+        throws IOException {
+        if (height < 0 || width < 0) {
+            throw new IllegalArgumentException("Недопустимый размер лабиринта: " + height + "x" + width);
+        }
+        if (tileSize <= 0 || Integer.bitCount(tileSize) != 1) {
+            throw new IllegalArgumentException("Размер плитки должен быть степенью двойки: " + tileSize);
+        }
+        this.height = height;
+        this.width = width;
+        this.tileShift = Integer.numberOfTrailingZeros(tileSize);
+        this.tileMask = tileSize - 1;
+        this.tilesPerRow = ceilDiv(width, tileSize);
+        long tileBytes = (long) tileSize * tileSize;
+        this.maxResidentTiles = (int) Math.min(Integer.MAX_VALUE, Math.max(1, memoryBudget / tileBytes));
+        long tileCount = tilesPerRow * ceilDiv(height, tileSize);
+        this.spilled = new long[(int) ceilDiv(tileCount, Long.SIZE)];
+        this.spillFile = Files.createTempFile(spillDirectory, "maze-tiles", ".bin");
+        this.channel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    @Override
+    public byte get(int row, int col) {
+        Tile tile = findTile(tileIndex(row, col), false);
+        return tile == null ? CellCodec.WALL : tile.cells[offset(row, col)];
+    }
+
+    @Override
+    public void set(int row, int col, byte packed) {
+        Tile tile = findTile(tileIndex(row, col), true);
+        tile.cells[offset(row, col)] = packed;
+        tile.dirty = true;
+    }
+
+    /**
+     * Возвращает количество плиток, находящихся в памяти.
+     *
+     * @return количество плиток в памяти
+     */
+    public int getResidentTiles() {
+        return resident.size();
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Закрывает и удаляет файл подкачки.
+     */
+    @Override
+    public void close() {
+        resident.clear();
+        lastTile = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось закрыть файл подкачки " + spillFile, e);
+        }
+    }
+
+    // Находит плитку в памяти, подгружает ее из файла или создает новую при записи
+    private Tile findTile(long index, boolean create) {
+        if (index == lastIndex) {
+            return lastTile;
+        }
+        Tile tile = resident.get(index);
+        if (tile == null) {
+            boolean onDisk = isSpilled(index);
+            if (!onDisk && !create) {
+                return null;
+            }
+            tile = new Tile(1 << (tileShift * 2));
+            if (onDisk) {
+                readTile(index, tile);
+            }
+            resident.put(index, tile);
+            evictOverBudget();
+        }
+        lastIndex = index;
+        lastTile = tile;
+        return tile;
+    }
+
+    // Выгружает самые давние плитки, пока их число превышает бюджет
+    private void evictOverBudget() {
+        Iterator<Map.Entry<Long, Tile>> eldest = resident.entrySet().iterator();
+        while (resident.size() > maxResidentTiles) {
+            Map.Entry<Long, Tile> entry = eldest.next();
+            if (entry.getValue().dirty) {
+                writeTile(entry.getKey(), entry.getValue());
+            }
+            eldest.remove();
+        }
+        lastIndex = -1;
+        lastTile = null;
+    }
+
+    private void readTile(long index, Tile tile) {
+        ByteBuffer buffer = ByteBuffer.wrap(tile.cells);
+        long position = index * tile.cells.length;
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Файл подкачки поврежден: " + spillFile);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать плитку " + index, e);
+        }
+    }
+
+    private void writeTile(long index, Tile tile) {
+        ByteBuffer buffer = ByteBuffer.wrap(tile.cells);
+        long position = index * tile.cells.length;
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось выгрузить плитку " + index, e);
+        }
+        spilled[(int) (index >>> WORD_SHIFT)] |= 1L << index;
+        tile.dirty = false;
+    }
+
+    private boolean isSpilled(long index) {
+        return (spilled[(int) (index >>> WORD_SHIFT)] & (1L << index)) != 0;
+    }
+
+    private long tileIndex(int row, int col) {
+        return (row >>> tileShift) * tilesPerRow + (col >>> tileShift);
+    }
+
+    private int offset(int row, int col) {
+        return (row & tileMask) << tileShift | (col & tileMask);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * Плитка клеток в памяти.
+     */
+    private static final class Tile {
+        final byte[] cells;
+        boolean dirty;
+
+        Tile(int size) {
+            this.cells = new byte[size];
+        }
+    }
+}
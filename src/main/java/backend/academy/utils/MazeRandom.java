@@ -0,0 +1,148 @@
+package backend.academy.utils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Источник случайности для генерации одного лабиринта.
+ * Создается из seed, поэтому лабиринт можно воспроизвести, и не разделяется между потоками:
+ * каждый поток или фрагмент лабиринта получает собственный детерминированный поток
+ * через {@link #forStream(long)}, который зависит только от seed и номера потока,
+ * но не от числа потоков и порядка их запуска.
+ * Экземпляр не потокобезопасен.
+ */
+public final class MazeRandom {
+
+    public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;  // Шаг последовательности Вейля для mix
+
+    // Константы финализатора SplitMix64
+    private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Создает источник со случайным seed.
+     */
+    public MazeRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Создает источник с заданным seed.
+     *
+     * @param seed начальное значение
+     */
+    public MazeRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Возвращает независимый поток с заданным номером.
+     * Результат зависит только от seed этого источника и номера, но не от того,
+     * сколько чисел уже было из него получено.
+     *
+     * @param streamId номер потока, например номер фрагмента лабиринта
+     * @return новый источник случайности
+     */
+    public MazeRandom forStream(long streamId) {
+        return new MazeRandom(mix(mix(seed) + (streamId + 1) * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Возвращает seed, из которого создан источник.
+     *
+     * @return начальное значение
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Возвращает случайное целое число от 0 до upperBound - 1.
+     *
+     * @param upperBound верхняя граница (не включительно)
+     * @return случайное целое число в диапазоне [0, upperBound)
+     */
+    public int nextInt(int upperBound) {
+        return random.nextInt(upperBound);
+    }
+
+    /**
+     * Возвращает 64 случайных бита. Позволяет получить несколько значений за одно обращение.
+     *
+     * @return случайное значение long
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Возвращает случайное значение double от 0.0 до 1.0.
+     *
+     * @return случайное значение double от 0.0 до 1.0
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Возвращает true с заданной вероятностью.
+     *
+     * @param chance вероятность от 0.0 до 1.0
+     * @return true, если случайное значение меньше вероятности
+     */
+    public boolean chance(double chance) {
+        return random.nextDouble() < chance;
+    }
+
+    /**
+     * Возвращает число неудачных испытаний до следующего успешного при заданной вероятности успеха.
+     * Одно обращение заменяет серию вызовов {@link #chance(double)} для редких событий:
+     * вместо розыгрыша для каждой клетки достаточно пропустить нужное число клеток.
+     *
+     * @param chance вероятность успеха одного испытания от 0.0 до 1.0
+     * @return число неудач до успеха, {@link Long#MAX_VALUE}, если успех невозможен
+     */
+    public long skipCount(double chance) {
+        if (chance >= 1.0) {
+            return 0;
+        }
+        if (chance <= 0.0) {
+            return Long.MAX_VALUE;
+        }
+        // Геометрическое распределение методом обратной функции
+        return (long) Math.floor(Math.log1p(-random.nextDouble()) / Math.log1p(-chance));
+    }
+
+    /**
+     * Перемешивает элементы в списке случайным образом.
+     *
+     * @param list список для перемешивания
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Перемешивает биты значения финализатором SplitMix64.
+     *
+     * @param value исходное значение
+     * @return хеш значения
+     */
+    public static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+}
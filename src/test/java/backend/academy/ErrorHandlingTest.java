@@ -27,11 +27,10 @@ public class ErrorHandlingTest {
 
     private Maze createBlockedMaze() {
         Maze maze = new Maze(5, 5);
-        Cell[][] grid = maze.getGrid();
         // Все стены
         for (int row = 0; row < maze.getHeight(); row++) {
             for (int col = 0; col < maze.getWidth(); col++) {
-                grid[row][col] = new Cell(row, col, Cell.Type.WALL, SurfaceType.NORMAL);
+                maze.setCell(row, col, Cell.Type.WALL, SurfaceType.NORMAL);
             }
         }
         return maze;
@@ -44,18 +44,17 @@ public class KnownMazeSolverTest {
 
     private Maze createKnownMaze() {
         Maze maze = new Maze(5, 5);
-        Cell[][] grid = maze.getGrid();
         for (int row = 0; row < maze.getHeight(); row++) {
             for (int col = 0; col < maze.getWidth(); col++) {
-                grid[row][col] = new Cell(row, col, Cell.Type.WALL, SurfaceType.NORMAL);
+                maze.setCell(row, col, Cell.Type.WALL, SurfaceType.NORMAL);
             }
         }
 
-        grid[1][1] = new Cell(1, 1, Cell.Type.PASSAGE, SurfaceType.NORMAL);
-        grid[1][2] = new Cell(1, 2, Cell.Type.PASSAGE, SurfaceType.NORMAL);
-        grid[2][2] = new Cell(2, 2, Cell.Type.PASSAGE, SurfaceType.NORMAL);
-        grid[3][2] = new Cell(3, 2, Cell.Type.PASSAGE, SurfaceType.NORMAL);
-        grid[3][3] = new Cell(3, 3, Cell.Type.PASSAGE, SurfaceType.NORMAL);
+        maze.setCell(1, 1, Cell.Type.PASSAGE, SurfaceType.NORMAL);
+        maze.setCell(1, 2, Cell.Type.PASSAGE, SurfaceType.NORMAL);
+        maze.setCell(2, 2, Cell.Type.PASSAGE, SurfaceType.NORMAL);
+        maze.setCell(3, 2, Cell.Type.PASSAGE, SurfaceType.NORMAL);
+        maze.setCell(3, 3, Cell.Type.PASSAGE, SurfaceType.NORMAL);
 
         return maze;
     }
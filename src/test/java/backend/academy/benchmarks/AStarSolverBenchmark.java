@@ -0,0 +1,57 @@
+package backend.academy.benchmarks;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.models.IntPath;
+import backend.academy.models.Maze;
+import backend.academy.solvers.AStarSolver;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Замер времени поиска пути алгоритмом A* между противоположными углами лабиринта с циклами.
+ * Решатель и буфер пути переиспользуются, поэтому после первого вызова поиск не выделяет память.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class AStarSolverBenchmark {
+
+    @Param({"1001", "4001"})
+    private int size;
+
+    private Maze maze;
+    private final AStarSolver solver = new AStarSolver();
+    private final IntPath path = new IntPath();
+
+    @Setup
+    public void setup() {
+        maze = new KruskalGenerator().generate(size, size, new MazeRandom(size));
+    }
+
+    @Benchmark
+    public IntPath solve() {
+        solver.solve(maze, maze.toIndex(1, 1), maze.toIndex(size - 2, size - 2), path);
+        return path;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AStarSolverBenchmark.class.getSimpleName()).build()).run();
+    }
+}
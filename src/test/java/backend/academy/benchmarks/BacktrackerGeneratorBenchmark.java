@@ -0,0 +1,65 @@
+package backend.academy.benchmarks;
+
+import backend.academy.generators.ArrayBacktrackerGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.interfaces.Generator;
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Сравнение рекурсивного бэктрекинга на объектах и на примитивных массивах.
+ * Для сравнения выделений памяти запускать с профилировщиком {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class BacktrackerGeneratorBenchmark {
+
+    @Param({"501", "2001"})
+    private int size;
+
+    @Param({"objects", "arrays"})
+    private String variant;
+
+    private Generator generator;
+    private Maze maze;
+
+    @Setup(Level.Trial)
+    public void setupGenerator() {
+        generator = "arrays".equals(variant) ? new ArrayBacktrackerGenerator() : new RecursiveBacktrackerGenerator();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupMaze() {
+        maze = new Maze(size, size);
+    }
+
+    @Benchmark
+    public Maze carve() {
+        generator.carve(maze, new MazeRandom(size));
+        return maze;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BacktrackerGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package backend.academy.benchmarks;
+
+import backend.academy.generators.ArrayBacktrackerGenerator;
+import backend.academy.generators.ParallelTiledGenerator;
+import backend.academy.generators.PrimGenerator;
+import backend.academy.interfaces.Generator;
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ускорение плиточной генерации относительно последовательного алгоритма Прима.
+ * Результат {@code prim} - базовая линия, {@code tiled} замеряется для разного числа потоков пула;
+ * ускорение равно отношению времени базовой линии ко времени плиточной генерации.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class ParallelTiledGeneratorBenchmark {
+
+    @Param({"5001"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int threads;
+
+    @Param({"prim", "backtracker"})
+    private String tiles;
+
+    private ForkJoinPool pool;
+    private Generator tiled;
+    private Maze maze;
+
+    @Setup(Level.Trial)
+    public void setupPool() {
+        pool = new ForkJoinPool(threads);
+        Generator tileGenerator = "prim".equals(tiles) ? new PrimGenerator() : new ArrayBacktrackerGenerator();
+        tiled = new ParallelTiledGenerator(tileGenerator, 128, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupMaze() {
+        maze = new Maze(size, size);
+    }
+
+    @Benchmark
+    public Maze tiled() {
+        tiled.carve(maze, new MazeRandom(size));
+        return maze;
+    }
+
+    @Benchmark
+    public Maze prim() {
+        new PrimGenerator().carve(maze, new MazeRandom(size));
+        return maze;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParallelTiledGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
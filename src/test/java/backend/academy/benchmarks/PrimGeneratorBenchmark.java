@@ -0,0 +1,54 @@
+package backend.academy.benchmarks;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.models.Maze;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Замер времени генерации алгоритмом Прима для разных размеров лабиринта.
+ * При линейной сложности время растет пропорционально числу клеток:
+ * переход от 1001 к 10001 должен давать рост примерно в 100 раз, а не в 10 000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PrimGeneratorBenchmark {
+
+    @Param({"1001", "2001", "5001", "10001"})
+    private int size;
+
+    private Maze maze;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        maze = new Maze(size, size);
+    }
+
+    @Benchmark
+    public Maze carve() {
+        new PrimGenerator().carve(maze);
+        return maze;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PrimGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
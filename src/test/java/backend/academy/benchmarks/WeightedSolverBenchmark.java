@@ -0,0 +1,76 @@
+package backend.academy.benchmarks;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.models.IntPath;
+import backend.academy.models.Maze;
+import backend.academy.solvers.AStarSolver;
+import backend.academy.solvers.DialSolver;
+import backend.academy.solvers.JunctionGraph;
+import backend.academy.solvers.JunctionGraphSolver;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Сравнение очереди корзин Дайала с кучей A* и с поиском по графу развилок при поиске пути
+ * между противоположными углами лабиринта с циклами. Решатели и буфер пути переиспользуются,
+ * а граф развилок строится заранее, поэтому замеряется только поиск.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class WeightedSolverBenchmark {
+
+    @Param({"1001", "4001"})
+    private int size;
+
+    private Maze maze;
+    private final AStarSolver aStar = new AStarSolver();
+    private final DialSolver dial = new DialSolver();
+    private JunctionGraphSolver junctions;
+    private final IntPath path = new IntPath();
+
+    @Setup
+    public void setup() {
+        maze = new KruskalGenerator().generate(size, size, new MazeRandom(size));
+        junctions = new JunctionGraphSolver(JunctionGraph.build(maze));
+    }
+
+    @Benchmark
+    public IntPath heap() {
+        aStar.solve(maze, maze.toIndex(1, 1), maze.toIndex(size - 2, size - 2), path);
+        return path;
+    }
+
+    @Benchmark
+    public IntPath buckets() {
+        dial.solve(maze, maze.toIndex(1, 1), maze.toIndex(size - 2, size - 2), path);
+        return path;
+    }
+
+    @Benchmark
+    public IntPath junctionGraph() {
+        junctions.solve(maze, maze.toIndex(1, 1), maze.toIndex(size - 2, size - 2), path);
+        return path;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WeightedSolverBenchmark.class.getSimpleName()).build()).run();
+    }
+}
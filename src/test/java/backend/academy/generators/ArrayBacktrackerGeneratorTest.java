@@ -0,0 +1,119 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.Coordinate;
+import backend.academy.models.EdgeMaze;
+import backend.academy.models.Maze;
+import backend.academy.models.MazeRegion;
+import backend.academy.models.SurfaceType;
+import backend.academy.solvers.BFSSolver;
+import backend.academy.utils.MazeRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayBacktrackerGeneratorTest {
+
+    @Test
+    public void testCarveBuildsSpanningTree() {
+        Maze maze = new Maze(61, 81);
+        new ArrayBacktrackerGenerator().carve(maze);
+
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        int cells = 30 * 40;
+        assertEquals(cells + cells - 1, passages, "Все клетки должны быть соединены без циклов.");
+        assertFalse(new BFSSolver().solve(maze, new Coordinate(1, 1), new Coordinate(59, 79)).isEmpty());
+    }
+
+    @Test
+    public void testWorksOnEdgeMaze() {
+        EdgeMaze maze = new EdgeMaze(41, 41);
+        new ArrayBacktrackerGenerator().carve(maze);
+
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                assertNotEquals(0, maze.adjacencyMask(row, col), "Каждая клетка должна быть соединена с соседом.");
+            }
+        }
+    }
+
+    @Test
+    public void testSameSeedGivesSameMaze() {
+        Maze first = new ArrayBacktrackerGenerator().generate(31, 31, new MazeRandom(5));
+        Maze second = new ArrayBacktrackerGenerator().generate(31, 31, new MazeRandom(5));
+
+        for (int row = 0; row < first.getHeight(); row++) {
+            for (int col = 0; col < first.getWidth(); col++) {
+                assertEquals(first.getCell(row, col), second.getCell(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void testChunkScalingIsUniform() {
+        int chunks = 1 << 16;
+        for (int bound : new int[] {2, 3, 4, SurfaceType.CHANCE_RANGE}) {
+            int[] counts = new int[bound];
+            for (int bits = 0; bits < chunks; bits++) {
+                int value = ArrayBacktrackerGenerator.scale(bits, bound);
+                if (value >= 0) {
+                    counts[value]++;
+                }
+            }
+            for (int count : counts) {
+                assertEquals(chunks / bound, count, "Каждое значение должно выпадать одинаково часто.");
+            }
+        }
+    }
+
+    @Test
+    public void testSurfacesComeFromGrid() {
+        Maze maze = new Maze(31, 41);
+        MazeGrid sandy = new MazeGrid() {
+            @Override
+            public int getHeight() {
+                return maze.getHeight();
+            }
+
+            @Override
+            public int getWidth() {
+                return maze.getWidth();
+            }
+
+            @Override
+            public boolean isPassage(int row, int col) {
+                return maze.isPassage(row, col);
+            }
+
+            @Override
+            public SurfaceType getSurface(int row, int col) {
+                return maze.getSurface(row, col);
+            }
+
+            @Override
+            public void setPassage(int row, int col, SurfaceType surface) {
+                maze.setPassage(row, col, surface);
+            }
+
+            @Override
+            public SurfaceType getSurfaceForChance(int chance) {
+                return SurfaceType.SAND;
+            }
+        };
+
+        new ArrayBacktrackerGenerator().carve(new MazeRegion(sandy, 0, 0, 31, 41), new MazeRandom(9));
+
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.isPassage(row, col)) {
+                    assertEquals(SurfaceType.SAND, maze.getSurface(row, col), "Поверхность должна выбирать сетка.");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package backend.academy.generators;
+
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchGeneratorTest {
+
+    @Test
+    public void testEverySpecIsGeneratedReproducibly() {
+        List<MazeSpec> specs = new ArrayList<>();
+        for (GeneratorType type : GeneratorType.values()) {
+            specs.add(new MazeSpec(31, 40, type, type.ordinal()));
+        }
+        Set<MazeSpec> seen = new HashSet<>();
+        try (BatchGenerator batch = BatchGenerator.virtualThreads(3)) {
+            batch.generate(specs, result -> {
+                seen.add(result.spec());
+                Maze expected = result.spec().algorithm().create()
+                    .generate(31, 40, new MazeRandom(result.spec().seed()));
+                assertEquals(31, result.maze().getHeight());
+                assertEquals(41, result.maze().getWidth());
+                for (int row = 0; row < expected.getHeight(); row++) {
+                    for (int col = 0; col < expected.getWidth(); col++) {
+                        assertEquals(expected.getCell(row, col), result.maze().getCell(row, col));
+                    }
+                }
+            });
+        }
+        assertEquals(new HashSet<>(specs), seen, "Каждое описание должно дать ровно один лабиринт.");
+    }
+
+    @Test
+    public void testInFlightWindowIsBounded() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        AtomicInteger started = new AtomicInteger();
+        try {
+            BatchGenerator batch = new BatchGenerator(task -> {
+                started.incrementAndGet();
+                pool.execute(task);
+            }, 2);
+            List<MazeSpec> specs = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                specs.add(new MazeSpec(21, 21, GeneratorType.PRIM, i));
+            }
+
+            Iterator<GeneratedMaze> results = batch.generate(specs);
+            assertEquals(2, started.get(), "До выдачи результатов запускается не больше окна задач.");
+            results.next();
+            assertEquals(3, started.get(), "Новая задача запускается только после выдачи готовой.");
+            int delivered = 1;
+            while (results.hasNext()) {
+                results.next();
+                delivered++;
+                assertTrue(started.get() - delivered <= 2);
+            }
+            assertEquals(10, delivered);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmallestSpecIsGeneratedByEveryAlgorithm() {
+        List<MazeSpec> specs = new ArrayList<>();
+        for (GeneratorType type : GeneratorType.values()) {
+            specs.add(new MazeSpec(MazeSpec.MIN_SIZE, MazeSpec.MIN_SIZE, type, 1));
+        }
+        List<Maze> mazes = new ArrayList<>();
+        try (BatchGenerator batch = BatchGenerator.virtualThreads(2)) {
+            batch.generate(specs, result -> mazes.add(result.maze()));
+        }
+        assertEquals(specs.size(), mazes.size());
+        for (Maze maze : mazes) {
+            assertTrue(maze.isPassage(1, 1), "Единственная клетка должна быть пробита.");
+        }
+    }
+
+    @Test
+    public void testInvalidSpecIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeSpec(0, 10, GeneratorType.PRIM, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MazeSpec(2, 10, GeneratorType.PRIM, 1),
+            "Лабиринт без клетки внутри внешней стены должен отклоняться при создании описания.");
+        assertThrows(IllegalArgumentException.class, () -> new MazeSpec(10, 1, GeneratorType.PRIM, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MazeSpec(10, 10, null, 1));
+    }
+}
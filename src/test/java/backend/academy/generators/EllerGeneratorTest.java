@@ -0,0 +1,154 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.io.MazeFileReader;
+import backend.academy.io.MazeFileWriter;
+import backend.academy.io.MazeMetadata;
+import backend.academy.models.Cell;
+import backend.academy.models.CellCodec;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import backend.academy.solvers.BFSSolver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EllerGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCarveBuildsPerfectMaze() {
+        Maze maze = new Maze(41, 61);
+        new EllerGenerator().carve(maze);
+
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        int cells = 20 * 30;
+        // В идеальном лабиринте клеток на одну больше, чем пробитых между ними стен
+        assertEquals(cells + cells - 1, passages, "Лабиринт не должен содержать циклов.");
+        assertEquals(passages, countReachable(maze), "Все проходы должны быть связаны.");
+    }
+
+    @Test
+    public void testGeneratedMazeHasWallsAroundAndPath() {
+        Maze maze = new EllerGenerator().generate(20, 30);
+
+        assertEquals(21, maze.getHeight());
+        assertEquals(31, maze.getWidth());
+        for (int row = 0; row < maze.getHeight(); row++) {
+            assertEquals(Cell.Type.WALL, maze.getType(row, 0));
+            assertEquals(Cell.Type.WALL, maze.getType(row, 30));
+        }
+        for (int col = 0; col < maze.getWidth(); col++) {
+            assertEquals(Cell.Type.WALL, maze.getType(0, col));
+            assertEquals(Cell.Type.WALL, maze.getType(20, col));
+        }
+        assertFalse(new BFSSolver().solve(maze, new Coordinate(1, 1), new Coordinate(19, 29)).isEmpty());
+    }
+
+    @Test
+    public void testRowsAreStreamedInOrder() throws IOException {
+        int[] expected = {0};
+        new EllerGenerator().generate(2001, 11, (row, cells) -> {
+            assertEquals(expected[0]++, row, "Строки должны приходить по порядку.");
+            assertEquals(11, cells.length);
+            assertFalse(CellCodec.isPassage(cells[0]));
+        });
+
+        assertEquals(2001, expected[0]);
+    }
+
+    @Test
+    public void testStreamToFile() throws IOException {
+        Path file = tempDir.resolve("eller.maze");
+        try (MazeFileWriter writer = new MazeFileWriter(Files.newOutputStream(file), 101, 51,
+            new MazeMetadata(0, "eller"))) {
+            new EllerGenerator().generate(101, 51, writer);
+        }
+
+        Maze maze = MazeFileReader.read(file);
+        assertFalse(new BFSSolver().solve(maze, new Coordinate(1, 1), new Coordinate(99, 49)).isEmpty());
+    }
+
+    // Считает проходы, достижимые из левого верхнего угла
+    private int countReachable(Maze maze) {
+        boolean[][] seen = new boolean[maze.getHeight()][maze.getWidth()];
+        Deque<Coordinate> queue = new ArrayDeque<>();
+        queue.add(new Coordinate(1, 1));
+        seen[1][1] = true;
+        int count = 0;
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        while (!queue.isEmpty()) {
+            Coordinate current = queue.poll();
+            count++;
+            for (int[] dir : directions) {
+                int row = current.row() + dir[0];
+                int col = current.col() + dir[1];
+                if (maze.isPassage(row, col) && !seen[row][col]) {
+                    seen[row][col] = true;
+                    queue.add(new Coordinate(row, col));
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testCarveTakesSurfacesFromGrid() {
+        Maze maze = new Maze(21, 31);
+        MazeGrid roads = new MazeGrid() {
+            @Override
+            public int getHeight() {
+                return maze.getHeight();
+            }
+
+            @Override
+            public int getWidth() {
+                return maze.getWidth();
+            }
+
+            @Override
+            public boolean isPassage(int row, int col) {
+                return maze.isPassage(row, col);
+            }
+
+            @Override
+            public SurfaceType getSurface(int row, int col) {
+                return maze.getSurface(row, col);
+            }
+
+            @Override
+            public void setPassage(int row, int col, SurfaceType surface) {
+                maze.setPassage(row, col, surface);
+            }
+
+            @Override
+            public SurfaceType getSurfaceForChance(int chance) {
+                return SurfaceType.ROAD;
+            }
+        };
+
+        new EllerGenerator().carve(roads);
+
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.isPassage(row, col)) {
+                    assertEquals(SurfaceType.ROAD, maze.getSurface(row, col), "Поверхность должна выбирать сетка.");
+                }
+            }
+        }
+    }
+}
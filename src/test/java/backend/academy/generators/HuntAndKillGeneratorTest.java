@@ -0,0 +1,37 @@
+package backend.academy.generators;
+
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HuntAndKillGeneratorTest {
+
+    @Test
+    public void testCarvedMazeIsPerfect() {
+        // Ширина больше 64 клеток, чтобы строка занимала несколько слов битовой карты
+        Maze maze = new Maze(61, 301);
+        new HuntAndKillGenerator().carve(maze, new MazeRandom(6));
+
+        MazeAssertions.assertPerfect(maze);
+    }
+
+    @Test
+    public void testGenerationIsReproducible() {
+        Maze first = new HuntAndKillGenerator().generate(41, 131, new MazeRandom(12));
+        Maze second = new HuntAndKillGenerator().generate(41, 131, new MazeRandom(12));
+
+        MazeAssertions.assertSameCells(first, second);
+    }
+
+    @Test
+    public void testSingleRowBecomesCorridor() {
+        Maze maze = new Maze(3, 21);
+        new HuntAndKillGenerator().carve(maze, new MazeRandom(1));
+
+        for (int col = 1; col < 20; col++) {
+            assertTrue(maze.isPassage(1, col), "Единственная строка должна быть сплошным коридором.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package backend.academy.generators;
+
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class KruskalGeneratorTest {
+
+    @Test
+    public void testSequentialMazeIsPerfect() {
+        Maze maze = new Maze(51, 71);
+        new KruskalGenerator().carve(maze, new MazeRandom(1));
+
+        MazeAssertions.assertPerfect(maze);
+    }
+
+    @Test
+    public void testParallelMazeIsPerfect() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Maze maze = new Maze(301, 261);
+            new KruskalGenerator(pool).carve(maze, new MazeRandom(2));
+
+            MazeAssertions.assertPerfect(maze);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSequentialModeIsReproducible() {
+        Maze first = new KruskalGenerator().generate(31, 41, new MazeRandom(11));
+        Maze second = new KruskalGenerator().generate(31, 41, new MazeRandom(11));
+
+        MazeAssertions.assertSameCells(first, second);
+    }
+}
@@ -0,0 +1,81 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.models.Maze;
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Общие проверки лабиринтов для тестов генераторов.
+ */
+final class MazeAssertions {
+
+    private static final int[] ROW_STEPS = {-1, 1, 0, 0};
+    private static final int[] COL_STEPS = {0, 0, -1, 1};
+
+    private MazeAssertions() {
+    }
+
+    /**
+     * Проверяет, что лабиринт идеальный: проходов на единицу меньше удвоенного числа логических клеток,
+     * то есть циклов нет, и все логические клетки достижимы из левого верхнего угла.
+     *
+     * @param maze лабиринт нечетного размера
+     */
+    static void assertPerfect(MazeGrid maze) {
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        int cells = maze.getHeight() / 2 * (maze.getWidth() / 2);
+        assertEquals(cells + cells - 1, passages, "Лабиринт не должен содержать циклов.");
+        assertEquals(cells, reachableCells(maze), "Все клетки должны быть достижимы из угла.");
+    }
+
+    /**
+     * Проверяет, что два лабиринта совпадают клетка в клетку.
+     *
+     * @param expected ожидаемый лабиринт
+     * @param actual проверяемый лабиринт
+     */
+    static void assertSameCells(Maze expected, Maze actual) {
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        for (int row = 0; row < expected.getHeight(); row++) {
+            for (int col = 0; col < expected.getWidth(); col++) {
+                assertEquals(expected.getCell(row, col), actual.getCell(row, col));
+            }
+        }
+    }
+
+    // Обход в ширину из клетки (1, 1), считает достижимые логические клетки
+    private static int reachableCells(MazeGrid maze) {
+        int width = maze.getWidth();
+        boolean[] seen = new boolean[maze.getHeight() * width];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int count = 0;
+        if (maze.isPassage(1, 1)) {
+            seen[width + 1] = true;
+            queue.add(width + 1);
+        }
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int row = cell / width;
+            int col = cell % width;
+            count += row % 2 == 1 && col % 2 == 1 ? 1 : 0;
+            for (int d = 0; d < ROW_STEPS.length; d++) {
+                int newRow = row + ROW_STEPS[d];
+                int newCol = col + COL_STEPS[d];
+                int next = newRow * width + newCol;
+                if (maze.isInBounds(newRow, newCol) && !seen[next] && maze.isPassage(newRow, newCol)) {
+                    seen[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return count;
+    }
+}
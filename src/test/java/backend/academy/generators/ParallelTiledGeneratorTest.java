@@ -0,0 +1,53 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.Generator;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.solvers.BFSSolver;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelTiledGeneratorTest {
+
+    @Test
+    public void testStitchedMazeIsPerfect() {
+        for (Generator tileGenerator : List.of(new PrimGenerator(), new RecursiveBacktrackerGenerator(),
+            new ArrayBacktrackerGenerator(), new EllerGenerator())) {
+            Maze maze = new Maze(77, 93);  // 38x46 логических клеток, плитки 10x10 делят их неровно
+            new ParallelTiledGenerator(tileGenerator, 10, ForkJoinPool.commonPool()).carve(maze, new MazeRandom(3));
+
+            MazeAssertions.assertPerfect(maze);
+        }
+    }
+
+    @Test
+    public void testResultDoesNotDependOnThreadCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            Maze first = new ParallelTiledGenerator(new PrimGenerator(), 8, single)
+                .generate(101, 101, new MazeRandom(9));
+            Maze second = new ParallelTiledGenerator(new PrimGenerator(), 8, several)
+                .generate(101, 101, new MazeRandom(9));
+
+            MazeAssertions.assertSameCells(first, second);
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testSingleTileAndTinyMaze() {
+        Maze maze = new ParallelTiledGenerator(new PrimGenerator(), 1000, ForkJoinPool.commonPool()).generate(11, 11);
+        assertFalse(new BFSSolver().solve(maze, new Coordinate(1, 1), new Coordinate(9, 9)).isEmpty());
+
+        Maze tiny = new Maze(3, 3);
+        new ParallelTiledGenerator().carve(tiny);
+        assertTrue(tiny.isPassage(1, 1));
+    }
+}
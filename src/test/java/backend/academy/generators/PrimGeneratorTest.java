@@ -19,7 +19,7 @@ public class PrimGeneratorTest {
         boolean hasPassage = false;
         for (int row = 0; row < maze.getHeight(); row++) {
             for (int col = 0; col < maze.getWidth(); col++) {
-                if (maze.getGrid()[row][col].type() == Cell.Type.PASSAGE) {
+                if (maze.getType(row, col) == Cell.Type.PASSAGE) {
                     hasPassage = true;
                     break;
                 }
@@ -27,4 +27,19 @@ public class PrimGeneratorTest {
         }
         assertTrue(hasPassage, "Лабиринт должен содержать хотя бы один проход");
     }
+
+    @Test
+    public void testCarveBuildsSpanningTree() {
+        Maze maze = new Maze(101, 151);
+        new PrimGenerator().carve(maze);
+
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        int cells = 50 * 75;
+        assertEquals(cells + cells - 1, passages, "Все клетки должны быть соединены без циклов.");
+    }
 }
@@ -25,16 +25,16 @@ public class RecursiveBacktrackerGeneratorTest {
         assertEquals(height, maze.getHeight());
         assertEquals(width, maze.getWidth());
 
-        assertEquals(Cell.Type.PASSAGE, maze.getGrid()[1][1].type());
+        assertEquals(Cell.Type.PASSAGE, maze.getType(1, 1));
 
         for (int row = 0; row < height; row++) {
-            assertEquals(Cell.Type.WALL, maze.getGrid()[row][0].type());
-            assertEquals(Cell.Type.WALL, maze.getGrid()[row][width - 1].type());
+            assertEquals(Cell.Type.WALL, maze.getType(row, 0));
+            assertEquals(Cell.Type.WALL, maze.getType(row, width - 1));
         }
 
         for (int col = 0; col < width; col++) {
-            assertEquals(Cell.Type.WALL, maze.getGrid()[0][col].type());
-            assertEquals(Cell.Type.WALL, maze.getGrid()[height - 1][col].type());
+            assertEquals(Cell.Type.WALL, maze.getType(0, col));
+            assertEquals(Cell.Type.WALL, maze.getType(height - 1, col));
         }
     }
 
@@ -49,7 +49,7 @@ public class RecursiveBacktrackerGeneratorTest {
 
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
-                if (maze.getGrid()[row][col].type() == Cell.Type.PASSAGE) {
+                if (maze.getType(row, col) == Cell.Type.PASSAGE) {
                     passageCount++;
                 } else {
                     wallCount++;
@@ -0,0 +1,48 @@
+package backend.academy.generators;
+
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecursiveDivisionGeneratorTest {
+
+    @Test
+    public void testCarvedMazeIsPerfect() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Maze maze = new Maze(201, 161);
+            new RecursiveDivisionGenerator(pool, 16).carve(maze, new MazeRandom(3));
+
+            MazeAssertions.assertPerfect(maze);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testResultDoesNotDependOnPoolSize() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            Maze first = new RecursiveDivisionGenerator(single, 8).generate(121, 141, new MazeRandom(5));
+            Maze second = new RecursiveDivisionGenerator(many, 8).generate(121, 141, new MazeRandom(5));
+
+            MazeAssertions.assertSameCells(first, second);
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    public void testEvenSizeIsNormalizedToOdd() {
+        Maze maze = new RecursiveDivisionGenerator().generate(20, 30);
+
+        assertEquals(21, maze.getHeight());
+        assertEquals(31, maze.getWidth());
+        assertTrue(maze.isPassage(1, 1), "Левая верхняя клетка должна быть проходом.");
+    }
+}
@@ -0,0 +1,42 @@
+package backend.academy.generators;
+
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.solvers.AStarSolver;
+import backend.academy.solvers.BFSSolver;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RowParallelGeneratorTest {
+
+    @Test
+    public void testCarvedMazesArePerfect() {
+        for (RowParallelGenerator generator : List.of(new BinaryTreeGenerator(), new SidewinderGenerator())) {
+            Maze maze = new Maze(81, 61);
+            generator.carve(maze, new MazeRandom(4));
+
+            MazeAssertions.assertPerfect(maze);
+        }
+    }
+
+    @Test
+    public void testParallelRowsMatchSequentialRows() {
+        Maze parallel = new SidewinderGenerator(true).generate(201, 201, new MazeRandom(8));
+        Maze sequential = new SidewinderGenerator(false).generate(201, 201, new MazeRandom(8));
+
+        MazeAssertions.assertSameCells(sequential, parallel);
+    }
+
+    @Test
+    public void testSolversWorkOnGeneratedMaze() {
+        Maze maze = new BinaryTreeGenerator().generate(41, 41);
+        Coordinate start = new Coordinate(39, 1);
+        Coordinate end = new Coordinate(1, 39);
+
+        assertEquals(end, new BFSSolver().solve(maze, start, end).getLast());
+        assertEquals(end, new AStarSolver().solve(maze, start, end).getLast());
+    }
+}
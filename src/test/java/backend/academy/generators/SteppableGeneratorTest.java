@@ -0,0 +1,72 @@
+package backend.academy.generators;
+
+import backend.academy.interfaces.CarveCursor;
+import backend.academy.interfaces.SteppableGenerator;
+import backend.academy.models.Maze;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SteppableGeneratorTest {
+
+    private static final List<SteppableGenerator> GENERATORS =
+        List.of(new PrimGenerator(), new RecursiveBacktrackerGenerator());
+
+    @Test
+    public void testStepwiseMazeMatchesCarvedMaze() {
+        for (SteppableGenerator generator : GENERATORS) {
+            Maze carved = new Maze(41, 51);
+            generator.carve(carved, new MazeRandom(21));
+
+            Maze stepped = new Maze(41, 51);
+            CarveCursor cursor = generator.cursor(stepped, new MazeRandom(21), (row, col, surface) -> { });
+            while (cursor.advance(7)) {
+                assertFalse(cursor.isDone());
+            }
+            assertTrue(cursor.isDone());
+
+            for (int row = 0; row < carved.getHeight(); row++) {
+                for (int col = 0; col < carved.getWidth(); col++) {
+                    assertEquals(carved.getCell(row, col), stepped.getCell(row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEachAdvanceDoesBoundedWork() {
+        for (SteppableGenerator generator : GENERATORS) {
+            Maze maze = new Maze(61, 61);
+            AtomicInteger carved = new AtomicInteger();
+            AtomicInteger total = new AtomicInteger();
+            CarveCursor cursor = generator.cursor(maze, new MazeRandom(5), (row, col, surface) -> {
+                assertTrue(maze.isPassage(row, col), "Событие приходит после того, как клетка стала проходом.");
+                assertEquals(surface, maze.getSurface(row, col));
+                carved.incrementAndGet();
+            });
+
+            assertEquals(0, countPassages(maze), "Курсор не должен менять сетку до первого шага.");
+            while (!cursor.isDone()) {
+                carved.set(0);
+                cursor.advance(3);
+                assertTrue(carved.get() <= 2 * 3, "Каждый шаг пробивает не больше стены и клетки.");
+                total.addAndGet(carved.get());
+            }
+            assertEquals(countPassages(maze), total.get(), "О каждом проходе должно прийти событие.");
+            assertEquals(30 * 30 * 2 - 1, total.get());
+        }
+    }
+
+    private int countPassages(Maze maze) {
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        return passages;
+    }
+}
@@ -0,0 +1,134 @@
+package backend.academy.io;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.interfaces.Generator;
+import backend.academy.models.Maze;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeFileFormatTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPrimMazeRoundTrip() throws IOException {
+        assertRoundTrip(new PrimGenerator(), "prim");
+    }
+
+    @Test
+    public void testRecursiveBacktrackerMazeRoundTrip() throws IOException {
+        assertRoundTrip(new RecursiveBacktrackerGenerator(), "backtracker");
+    }
+
+    @Test
+    public void testMetadataIsStoredInHeader() throws IOException {
+        Maze maze = new PrimGenerator().generate(11, 11);
+        byte[] data = toBytes(maze, new MazeMetadata(42, "Прим"));
+
+        try (MazeFileReader reader = new MazeFileReader(new ByteArrayInputStream(data))) {
+            assertEquals(new MazeMetadata(42, "Прим"), reader.getMetadata());
+            assertEquals(11, reader.getHeight());
+            assertEquals(11, reader.getWidth());
+        }
+    }
+
+    @Test
+    public void testCorruptedFileIsRejected() throws IOException {
+        Maze maze = new PrimGenerator().generate(21, 21);
+        byte[] data = toBytes(maze, MazeMetadata.UNKNOWN);
+        data[data.length / 2] ^= 0x10;
+        Path file = Files.write(tempDir.resolve("corrupted.maze"), data);
+
+        assertThrows(IOException.class, () -> MazeFileReader.read(file));
+    }
+
+    @Test
+    public void testTruncatedFileIsRejected() throws IOException {
+        Maze maze = new PrimGenerator().generate(21, 21);
+        byte[] data = toBytes(maze, MazeMetadata.UNKNOWN);
+        Path file = Files.write(tempDir.resolve("truncated.maze"), java.util.Arrays.copyOf(data, data.length - 5));
+
+        assertThrows(IOException.class, () -> MazeFileReader.read(file));
+    }
+
+    @Test
+    public void testCorruptedNameLengthIsRejected() throws IOException {
+        byte[] data = toBytes(new Maze(3, 3), MazeMetadata.UNKNOWN);
+        // Длина имени стоит после сигнатуры, версии, размеров и зерна
+        int offset = Integer.BYTES + 1 + 2 * Integer.BYTES + Long.BYTES;
+        byte[] negative = {-1, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+        byte[] tooLong = {(byte) 0x81, 0x08};  // 1025
+
+        assertThrows(IOException.class, () -> new MazeFileReader(new ByteArrayInputStream(
+            replaceByte(data, offset, negative))), "Отрицательная длина имени должна давать IOException.");
+        assertThrows(IOException.class, () -> new MazeFileReader(new ByteArrayInputStream(
+            replaceByte(data, offset, tooLong))), "Слишком длинное имя должно отклоняться, а не обрезаться.");
+    }
+
+    @Test
+    public void testLongNameIsRejectedByWriter() throws IOException {
+        String longest = "a".repeat(MazeFormat.MAX_NAME_BYTES);
+        byte[] data = toBytes(new Maze(3, 3), new MazeMetadata(1, longest));
+
+        try (MazeFileReader reader = new MazeFileReader(new ByteArrayInputStream(data))) {
+            assertEquals(longest, reader.getMetadata().generator());
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> toBytes(new Maze(3, 3), new MazeMetadata(1, longest + "a")));
+        Path file = tempDir.resolve("long-name.maze");
+        assertThrows(IllegalArgumentException.class,
+            () -> MazeFileWriter.write(new Maze(3, 3), new MazeMetadata(1, longest + "a"), file));
+        assertFalse(Files.exists(file), "Файл с недопустимым заголовком не должен создаваться.");
+    }
+
+    private void assertRoundTrip(Generator generator, String name) throws IOException {
+        Maze maze = generator.generate(41, 51);
+        Path file = tempDir.resolve(name + ".maze");
+
+        MazeFileWriter.write(maze, new MazeMetadata(7, name), file);
+        Maze loaded = MazeFileReader.read(file);
+
+        assertEquals(maze.getHeight(), loaded.getHeight());
+        assertEquals(maze.getWidth(), loaded.getWidth());
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                assertEquals(maze.getType(row, col), loaded.getType(row, col));
+                if (maze.isPassage(row, col)) {
+                    assertEquals(maze.getSurface(row, col), loaded.getSurface(row, col));
+                }
+            }
+        }
+        assertTrue(Files.size(file) < (long) maze.getHeight() * maze.getWidth() / 2,
+            "Файл должен быть заметно меньше одного байта на клетку.");
+    }
+
+    private byte[] toBytes(Maze maze, MazeMetadata metadata) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MazeFileWriter writer = new MazeFileWriter(out, maze.getHeight(), maze.getWidth(), metadata)) {
+            byte[] row = new byte[maze.getWidth()];
+            for (int r = 0; r < maze.getHeight(); r++) {
+                maze.readRow(r, row);
+                writer.writeRow(row);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // Заменяет байт заголовка по смещению последовательностью байтов
+    private byte[] replaceByte(byte[] data, int offset, byte[] replacement) {
+        byte[] result = new byte[data.length - 1 + replacement.length];
+        System.arraycopy(data, 0, result, 0, offset);
+        System.arraycopy(replacement, 0, result, offset, replacement.length);
+        System.arraycopy(data, offset + 1, result, offset + replacement.length, data.length - offset - 1);
+        return result;
+    }
+}
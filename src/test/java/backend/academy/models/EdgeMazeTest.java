@@ -0,0 +1,151 @@
+package backend.academy.models;
+
+import backend.academy.generators.ArrayBacktrackerGenerator;
+import backend.academy.generators.BinaryTreeGenerator;
+import backend.academy.generators.EllerGenerator;
+import backend.academy.generators.GeneratorType;
+import backend.academy.generators.HuntAndKillGenerator;
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.generators.ParallelTiledGenerator;
+import backend.academy.generators.PrimGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.generators.RecursiveDivisionGenerator;
+import backend.academy.generators.SidewinderGenerator;
+import backend.academy.interfaces.Generator;
+import backend.academy.solvers.BFSSolver;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EdgeMazeTest {
+
+    @Test
+    public void testOpenEdgesAreVisibleInGridAndMask() {
+        EdgeMaze maze = new EdgeMaze(5, 7);
+        maze.openEast(0, 0);
+        maze.openSouth(0, 1);
+
+        assertTrue(maze.isPassage(1, 2), "Стена между (1,1) и (1,3) должна быть пробита.");
+        assertTrue(maze.isPassage(2, 3), "Стена между (1,3) и (3,3) должна быть пробита.");
+        assertFalse(maze.isPassage(2, 1));
+        assertFalse(maze.isPassage(2, 2), "Пересечение стен всегда остается стеной.");
+        assertEquals(EdgeMaze.EAST, maze.adjacencyMask(0, 0));
+        assertEquals(EdgeMaze.WEST | EdgeMaze.SOUTH, maze.adjacencyMask(0, 1));
+        assertEquals(EdgeMaze.NORTH, maze.adjacencyMask(1, 1));
+        assertEquals(0, maze.adjacencyMask(1, 2));
+    }
+
+    @Test
+    public void testOuterWallsCannotBeOpened() {
+        EdgeMaze maze = new EdgeMaze(5, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> maze.openEast(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> maze.setPassage(0, 1, SurfaceType.NORMAL));
+        assertThrows(IllegalArgumentException.class, () -> new EdgeMaze(4, 5));
+    }
+
+    @Test
+    public void testPrimGeneratesPerfectMaze() {
+        EdgeMaze maze = new EdgeMaze(31, 41);
+        new PrimGenerator().carve(maze);
+
+        assertPerfect(maze);
+    }
+
+    @Test
+    public void testBacktrackerGeneratesPerfectMaze() {
+        EdgeMaze maze = new EdgeMaze(41, 31);
+        new RecursiveBacktrackerGenerator().carve(maze);
+
+        assertPerfect(maze);
+    }
+
+    @Test
+    public void testCellsCarvedBeforeEdgesStayPassages() {
+        EdgeMaze maze = new EdgeMaze(5, 7);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(3, 5, SurfaceType.NORMAL);
+
+        assertTrue(maze.isPassage(1, 1));
+        assertTrue(maze.isPassage(3, 5), "Вторая изолированная клетка тоже должна остаться проходом.");
+        assertFalse(maze.isPassage(1, 3));
+        assertEquals(0, maze.adjacencyMask(1, 2));
+    }
+
+    @Test
+    public void testKruskalAndEllerGeneratePerfectMaze() {
+        EdgeMaze kruskal = new EdgeMaze(21, 21);
+        EdgeMaze eller = new EdgeMaze(21, 21);
+        new KruskalGenerator().carve(kruskal);
+        new EllerGenerator().carve(eller);
+
+        assertPerfect(kruskal);
+        assertPerfect(eller);
+    }
+
+    @Test
+    public void testEveryGeneratorCarvesPerfectMaze() {
+        // Параллельные алгоритмы запускаются в одном потоке, чтобы результат не зависел от расписания
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            List<Generator> generators = List.of(new PrimGenerator(), new RecursiveBacktrackerGenerator(),
+                new ArrayBacktrackerGenerator(), new HuntAndKillGenerator(), new KruskalGenerator(),
+                new EllerGenerator(), new BinaryTreeGenerator(false), new SidewinderGenerator(false),
+                new RecursiveDivisionGenerator(single, 1), new ParallelTiledGenerator(new PrimGenerator(), 4, single));
+            assertEquals(GeneratorType.values().length, generators.size(), "Нужен генератор каждого алгоритма.");
+            for (int seed = 0; seed < generators.size(); seed++) {
+                EdgeMaze maze = new EdgeMaze(31, 41);
+                generators.get(seed).carve(maze, new MazeRandom(seed));
+
+                assertPerfect(maze);
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelGeneratorsCarvePerfectMaze() {
+        List<Generator> generators = List.of(new BinaryTreeGenerator(true), new SidewinderGenerator(true),
+            new RecursiveDivisionGenerator(), new ParallelTiledGenerator());
+        // Соседние строки пишут в общие слова, поэтому потерянная запись дала бы несвязный лабиринт
+        for (int seed = 0; seed < 20; seed++) {
+            for (Generator generator : generators) {
+                EdgeMaze maze = new EdgeMaze(129, 255);
+                generator.carve(maze, new MazeRandom(seed));
+
+                assertPerfect(maze);
+            }
+        }
+    }
+
+    @Test
+    public void testSolverRunsOnEdgeMaze() {
+        EdgeMaze maze = new EdgeMaze(21, 21);
+        new PrimGenerator().carve(maze);
+        maze.addCycles();
+
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(19, 19);
+        List<Coordinate> path = new BFSSolver().solve(maze, start, end);
+
+        assertEquals(start, path.get(0));
+        assertEquals(end, path.get(path.size() - 1));
+    }
+
+    // Все логические клетки пробиты, а ребер ровно на одно меньше, чем клеток
+    private void assertPerfect(EdgeMaze maze) {
+        int openEdges = 0;
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                assertTrue(maze.isPassage(2 * row + 1, 2 * col + 1));
+                openEdges += maze.isOpenEast(row, col) ? 1 : 0;
+                openEdges += maze.isOpenSouth(row, col) ? 1 : 0;
+            }
+        }
+        assertEquals(maze.getRows() * maze.getCols() - 1, openEdges);
+    }
+}
@@ -0,0 +1,64 @@
+package backend.academy.models;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.solvers.AStarSolver;
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedSurfaceGridTest {
+
+    @Test
+    public void testSurfacesFollowDistribution() {
+        SurfaceHash hash = new SurfaceHash(12345);
+        Map<SurfaceType, Integer> counts = new EnumMap<>(SurfaceType.class);
+        int size = 1000;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                counts.merge(hash.surfaceAt(row, col), 1, Integer::sum);
+            }
+        }
+
+        double total = size * size;
+        assertEquals(0.05, counts.get(SurfaceType.SWAMP) / total, 0.005);
+        assertEquals(0.10, counts.get(SurfaceType.SAND) / total, 0.005);
+        assertEquals(0.05, counts.get(SurfaceType.COIN) / total, 0.005);
+        assertEquals(0.10, counts.get(SurfaceType.ROAD) / total, 0.005);
+        assertEquals(0.70, counts.get(SurfaceType.NORMAL) / total, 0.005);
+    }
+
+    @Test
+    public void testSurfacesAreReproducible() {
+        SurfaceHash first = new SurfaceHash(7);
+        SurfaceHash second = new SurfaceHash(7);
+        SurfaceHash other = new SurfaceHash(8);
+
+        int differences = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.surfaceAt(i, 3 * i), second.surfaceAt(i, 3 * i), "Один seed - одни поверхности.");
+            differences += first.surfaceAt(i, 3 * i) == other.surfaceAt(i, 3 * i) ? 0 : 1;
+        }
+        assertTrue(differences > 100, "Разные seed должны давать разные поверхности.");
+    }
+
+    @Test
+    public void testEdgeMazeGetsSurfacesWithoutStoringThem() {
+        HashedSurfaceGrid maze = new HashedSurfaceGrid(new EdgeMaze(41, 41), 99);
+        new PrimGenerator().carve(maze);
+
+        SurfaceHash hash = new SurfaceHash(99);
+        boolean hasSpecialSurface = false;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.isPassage(row, col)) {
+                    assertEquals(hash.surfaceAt(row, col), maze.getSurface(row, col));
+                    hasSpecialSurface |= maze.getSurface(row, col) != SurfaceType.NORMAL;
+                }
+            }
+        }
+        assertTrue(hasSpecialSurface);
+        assertFalse(new AStarSolver().solve(maze, new Coordinate(1, 1), new Coordinate(39, 39)).isEmpty());
+    }
+}
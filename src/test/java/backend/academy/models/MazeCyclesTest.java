@@ -0,0 +1,67 @@
+package backend.academy.models;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.utils.MazeRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeCyclesTest {
+
+    @Test
+    public void testParallelPassMatchesSequentialPass() {
+        Maze sequential = new Maze(301, 201);
+        Maze parallel = new Maze(301, 201);
+        new KruskalGenerator().carve(sequential, new MazeRandom(3));
+        new KruskalGenerator().carve(parallel, new MazeRandom(3));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MazeCycles.addCycles(sequential, new MazeRandom(9));
+            MazeCycles.addCycles(parallel, new MazeRandom(9), pool);
+            MazeSurfaces.assignSurfaces(sequential, new MazeRandom(10));
+            MazeSurfaces.assignSurfaces(parallel, new MazeRandom(10), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int row = 0; row < sequential.getHeight(); row++) {
+            for (int col = 0; col < sequential.getWidth(); col++) {
+                assertEquals(sequential.getCell(row, col), parallel.getCell(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void testOnlyWallsBetweenCellsAreOpened() {
+        Maze maze = new Maze(201, 201);
+        new KruskalGenerator().carve(maze, new MazeRandom(4));
+        int before = countPassages(maze);
+
+        MazeCycles.addCycles(maze, new MazeRandom(5));
+
+        int added = countPassages(maze) - before;
+        int walls = 100 * 99 * 2 - (100 * 100 - 1);
+        assertTrue(added > walls * MazeCycles.CYCLE_CHANCE / 2 && added < walls * MazeCycles.CYCLE_CHANCE * 2,
+            "Доля пробитых стен должна соответствовать вероятности цикла.");
+        for (int row = 0; row < maze.getHeight(); row += 2) {
+            for (int col = 0; col < maze.getWidth(); col += 2) {
+                assertFalse(maze.isPassage(row, col), "Углы между клетками должны оставаться стенами.");
+            }
+        }
+        for (int i = 0; i < maze.getWidth(); i++) {
+            assertFalse(maze.isPassage(0, i) || maze.isPassage(maze.getHeight() - 1, i));
+            assertFalse(maze.isPassage(i, 0) || maze.isPassage(i, maze.getWidth() - 1));
+        }
+    }
+
+    private int countPassages(Maze maze) {
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        return passages;
+    }
+}
@@ -0,0 +1,98 @@
+package backend.academy.models;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.solvers.BFSSolver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeSnapshotTest {
+
+    @Test
+    public void testSnapshotIsIndependentFromMaze() {
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.SAND);
+        MazeSnapshot snapshot = maze.freeze();
+
+        maze.setPassage(1, 2, SurfaceType.ROAD);
+
+        assertEquals(new Cell(1, 1, Cell.Type.PASSAGE, SurfaceType.SAND), snapshot.getCell(1, 1));
+        assertFalse(snapshot.isPassage(1, 2), "Изменения после снимка не должны быть видны.");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.setPassage(1, 2, SurfaceType.NORMAL));
+    }
+
+    @Test
+    public void testUpdatePublishesNewVersion() {
+        VersionedMaze versioned = new VersionedMaze(new Maze(5, 5));
+        MazeSnapshot before = versioned.snapshot();
+
+        MazeSnapshot after = versioned.update(maze -> maze.setPassage(3, 3, SurfaceType.COIN));
+
+        assertEquals(0, before.getVersion());
+        assertEquals(1, after.getVersion());
+        assertSame(after, versioned.snapshot());
+        assertFalse(before.isPassage(3, 3));
+        assertEquals(SurfaceType.COIN, after.getSurface(3, 3));
+    }
+
+    @Test
+    public void testDraftCannotChangePublishedVersion() {
+        VersionedMaze versioned = new VersionedMaze(new Maze(5, 5));
+        List<Maze> leaked = new ArrayList<>();
+
+        MazeSnapshot published = versioned.update(maze -> {
+            maze.setPassage(1, 1, SurfaceType.SAND);
+            leaked.add(maze);
+        });
+
+        assertThrows(IllegalStateException.class, () -> leaked.getFirst().setPassage(1, 1, SurfaceType.ROAD));
+        assertEquals(SurfaceType.SAND, published.getSurface(1, 1), "Опубликованный снимок не должен меняться.");
+    }
+
+    @Test
+    public void testConcurrentSolversNeverSeeTornUpdates() throws Exception {
+        Maze base = new PrimGenerator().generate(31, 31);
+        base.setPassage(29, 29, SurfaceType.NORMAL);
+        base.setPassage(1, 1, SurfaceType.NORMAL);
+        VersionedMaze versioned = new VersionedMaze(base);
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(29, 29);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> readers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                readers.add(pool.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        MazeSnapshot snapshot = versioned.snapshot();
+                        // Писатель всегда меняет поверхности обеих клеток одновременно
+                        if (snapshot.getSurface(1, 1) != snapshot.getSurface(29, 29)) {
+                            return false;
+                        }
+                        if (new BFSSolver().solve(snapshot, start, end).isEmpty()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (SurfaceType surface : SurfaceType.values()) {
+                versioned.update(maze -> {
+                    maze.setPassage(1, 1, surface);
+                    maze.setPassage(29, 29, surface);
+                });
+            }
+            for (Future<Boolean> reader : readers) {
+                assertTrue(reader.get(), "Читатель увидел несогласованное состояние.");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(SurfaceType.values().length, versioned.getVersion());
+    }
+}
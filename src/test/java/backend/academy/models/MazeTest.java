@@ -0,0 +1,49 @@
+package backend.academy.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeTest {
+
+    @Test
+    public void testNewMazeIsAllWalls() {
+        Maze maze = new Maze(5, 7);
+
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                assertEquals(Cell.Type.WALL, maze.getType(row, col));
+                assertEquals(SurfaceType.NORMAL, maze.getSurface(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void testPackedCellRoundTrip() {
+        Maze maze = new Maze(3, 3);
+
+        for (Cell.Type type : Cell.Type.values()) {
+            for (SurfaceType surface : SurfaceType.values()) {
+                maze.setCell(1, 2, type, surface);
+
+                Cell cell = maze.getCell(1, 2);
+                assertEquals(new Cell(1, 2, type, surface), cell);
+                assertEquals(type == Cell.Type.PASSAGE, maze.isPassage(1, 2));
+            }
+        }
+        assertEquals(Cell.Type.WALL, maze.getType(2, 1), "Соседние клетки не должны меняться.");
+    }
+
+    @Test
+    public void testOutOfBoundsAccessIsRejected() {
+        Maze maze = new Maze(3, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> maze.isPassage(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> maze.setPassage(-1, 0, SurfaceType.NORMAL));
+    }
+
+    @Test
+    public void testTooLargeMazeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Maze(100_000, 100_000));
+    }
+}
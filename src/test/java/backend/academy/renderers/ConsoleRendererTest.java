@@ -37,7 +37,7 @@ public class ConsoleRendererTest {
         Maze maze = new Maze(7, 7);
         for (int row = 0; row < maze.getHeight(); row++) {
             for (int col = 0; col < maze.getWidth(); col++) {
-                maze.getGrid()[row][col] = new Cell(row, col, Cell.Type.PASSAGE, SurfaceType.NORMAL);
+                maze.setCell(row, col, Cell.Type.PASSAGE, SurfaceType.NORMAL);
             }
         }
         return maze;
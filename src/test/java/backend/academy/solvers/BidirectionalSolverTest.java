@@ -0,0 +1,163 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidirectionalSolverTest {
+
+    @Test
+    public void testBfsPathIsShortest() {
+        BidirectionalBFSSolver bidirectional = new BidirectionalBFSSolver();
+        BFSSolver bfs = new BFSSolver();
+        MazeRandom random = new MazeRandom(30);
+        for (int seed = 0; seed < 5; seed++) {
+            Maze maze = new KruskalGenerator().generate(61, 81, new MazeRandom(seed));
+            for (int i = 0; i < 20; i++) {
+                Coordinate start = randomCell(maze, random);
+                Coordinate end = randomCell(maze, random);
+
+                List<Coordinate> path = bidirectional.solve(maze, start, end);
+
+                assertValidPath(maze, path, start, end);
+                assertEquals(bfs.solve(maze, start, end).size(), path.size(), "Путь должен быть кратчайшим.");
+            }
+        }
+    }
+
+    @Test
+    public void testAStarWithZeroWeightMatchesDialCost() {
+        BidirectionalAStarSolver bidirectional = new BidirectionalAStarSolver(0.0);
+        DialSolver dial = new DialSolver();
+        MazeRandom random = new MazeRandom(31);
+        for (int seed = 0; seed < 5; seed++) {
+            Maze maze = new KruskalGenerator().generate(51, 51, new MazeRandom(seed));
+            for (int i = 0; i < 20; i++) {
+                Coordinate start = randomCell(maze, random);
+                Coordinate end = randomCell(maze, random);
+
+                List<Coordinate> path = bidirectional.solve(maze, start, end);
+
+                assertValidPath(maze, path, start, end);
+                assertEquals(scaledCost(maze, dial.solve(maze, start, end)), scaledCost(maze, path));
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultAStarMatchesDialCostOnGeneratedSurfaces() {
+        BidirectionalAStarSolver bidirectional = new BidirectionalAStarSolver();
+        DialSolver dial = new DialSolver();
+        MazeRandom random = new MazeRandom(32);
+        for (int seed = 0; seed < 5; seed++) {
+            // Лабиринт с циклами и случайными поверхностями, включая дорожки и монетки
+            Maze maze = new KruskalGenerator().generate(61, 61, new MazeRandom(seed));
+            for (int i = 0; i < 40; i++) {
+                Coordinate start = randomCell(maze, random);
+                Coordinate end = randomCell(maze, random);
+
+                List<Coordinate> path = bidirectional.solve(maze, start, end);
+
+                assertValidPath(maze, path, start, end);
+                assertEquals(scaledCost(maze, dial.solve(maze, start, end)), scaledCost(maze, path),
+                    "Решатель по умолчанию должен находить путь наименьшей стоимости.");
+            }
+        }
+    }
+
+    @Test
+    public void testAStarMatchesUnidirectionalCostOnSurfacesWithCostAtLeastOne() {
+        Maze maze = new KruskalGenerator().generate(81, 81, new MazeRandom(8));
+        MazeRandom random = new MazeRandom(9);
+        SurfaceType[] surfaces = {SurfaceType.NORMAL, SurfaceType.SAND, SurfaceType.SWAMP};
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.isPassage(row, col)) {
+                    maze.setPassage(row, col, surfaces[random.nextInt(surfaces.length)]);
+                }
+            }
+        }
+        BidirectionalAStarSolver bidirectional = new BidirectionalAStarSolver(1.0);
+        AStarSolver aStar = new AStarSolver();
+        for (int i = 0; i < 20; i++) {
+            Coordinate start = randomCell(maze, random);
+            Coordinate end = randomCell(maze, random);
+
+            List<Coordinate> path = bidirectional.solve(maze, start, end);
+
+            assertValidPath(maze, path, start, end);
+            assertEquals(scaledCost(maze, aStar.solve(maze, start, end)), scaledCost(maze, path));
+        }
+    }
+
+    @Test
+    public void testFewerCellsAreExpandedInMazeWithCycles() {
+        Maze maze = new KruskalGenerator().generate(301, 301, new MazeRandom(12));
+        Coordinate start = new Coordinate(151, 51);
+        Coordinate end = new Coordinate(151, 249);
+
+        BFSSolver bfs = new BFSSolver();
+        BidirectionalBFSSolver bidirectionalBfs = new BidirectionalBFSSolver();
+        bfs.solve(maze, start, end);
+        bidirectionalBfs.solve(maze, start, end);
+        assertTrue(bidirectionalBfs.getExpandedCount() * 3 < bfs.getExpandedCount() * 2,
+            "Встречный поиск в ширину должен раскрывать заметно меньше клеток.");
+
+        DialSolver dial = new DialSolver();
+        BidirectionalAStarSolver dijkstra = new BidirectionalAStarSolver(0.0);
+        long dialCost = scaledCost(maze, dial.solve(maze, start, end));
+        assertEquals(dialCost, scaledCost(maze, dijkstra.solve(maze, start, end)));
+        assertTrue(dijkstra.getExpandedCount() > 0);
+    }
+
+    @Test
+    public void testMissingPathReturnsEmptyList() {
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(3, 3, SurfaceType.NORMAL);
+
+        assertTrue(new BidirectionalBFSSolver().solve(maze, new Coordinate(1, 1), new Coordinate(3, 3)).isEmpty());
+        assertTrue(new BidirectionalAStarSolver().solve(maze, new Coordinate(1, 1), new Coordinate(3, 3)).isEmpty());
+    }
+
+    @Test
+    public void testSameStartAndEnd() {
+        Maze maze = new KruskalGenerator().generate(11, 11, new MazeRandom(1));
+        Coordinate cell = new Coordinate(5, 5);
+
+        assertEquals(List.of(cell), new BidirectionalBFSSolver().solve(maze, cell, cell));
+        assertEquals(List.of(cell), new BidirectionalAStarSolver().solve(maze, cell, cell));
+    }
+
+    private Coordinate randomCell(Maze maze, MazeRandom random) {
+        int row = 2 * random.nextInt(maze.getHeight() / 2) + 1;
+        int col = 2 * random.nextInt(maze.getWidth() / 2) + 1;
+        return new Coordinate(row, col);
+    }
+
+    private void assertValidPath(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end) {
+        assertEquals(start, path.getFirst());
+        assertEquals(end, path.getLast());
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate a = path.get(i - 1);
+            Coordinate b = path.get(i);
+            int distance = Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+            assertEquals(1, distance, "Шаги пути должны быть соседними.");
+            assertTrue(maze.isPassage(b.row(), b.col()));
+        }
+    }
+
+    private long scaledCost(Maze maze, List<Coordinate> path) {
+        long cost = 0;
+        for (Coordinate cell : path.subList(1, path.size())) {
+            cost += DialSolver.scaledCost(maze.getSurface(cell.row(), cell.col()));
+        }
+        return cost;
+    }
+}
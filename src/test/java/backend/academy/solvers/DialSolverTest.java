@@ -0,0 +1,110 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DialSolverTest {
+
+    @Test
+    public void testCostMatchesAStarOnSurfacesWithCostAtLeastOne() {
+        Maze maze = new KruskalGenerator().generate(61, 61, new MazeRandom(14));
+        MazeRandom random = new MazeRandom(15);
+        SurfaceType[] surfaces = {SurfaceType.NORMAL, SurfaceType.SAND, SurfaceType.SWAMP};
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                if (maze.isPassage(row, col)) {
+                    maze.setPassage(row, col, surfaces[random.nextInt(surfaces.length)]);
+                }
+            }
+        }
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(59, 59);
+
+        List<Coordinate> dial = new DialSolver().solve(maze, start, end);
+        List<Coordinate> aStar = new AStarSolver().solve(maze, start, end);
+
+        assertEquals(end, dial.getLast());
+        assertEquals(pathCost(maze, aStar), pathCost(maze, dial), "Стоимость пути должна совпадать с A*.");
+    }
+
+    @Test
+    public void testCostMatchesReferenceDijkstraWithAllSurfaces() {
+        DialSolver solver = new DialSolver();
+        for (int seed = 0; seed < 5; seed++) {
+            Maze maze = new KruskalGenerator().generate(41, 51, new MazeRandom(seed));
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(39, 49);
+
+            List<Coordinate> path = solver.solve(maze, start, end);
+
+            assertEquals(start, path.getFirst());
+            assertEquals(end, path.getLast());
+            assertEquals(referenceCost(maze, start, end), pathCost(maze, path));
+        }
+    }
+
+    @Test
+    public void testCoinCostIsClampedToZero() {
+        assertEquals(0, DialSolver.scaledCost(SurfaceType.COIN));
+        assertEquals(1, DialSolver.scaledCost(SurfaceType.ROAD));
+        assertEquals(2, DialSolver.scaledCost(SurfaceType.NORMAL));
+        assertEquals(10, DialSolver.scaledCost(SurfaceType.SWAMP));
+    }
+
+    @Test
+    public void testMissingPathReturnsEmptyList() {
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(3, 3, SurfaceType.NORMAL);
+
+        assertTrue(new DialSolver().solve(maze, new Coordinate(1, 1), new Coordinate(3, 3)).isEmpty());
+    }
+
+    private long pathCost(Maze maze, List<Coordinate> path) {
+        long cost = 0;
+        for (Coordinate cell : path.subList(1, path.size())) {
+            cost += DialSolver.scaledCost(maze.getSurface(cell.row(), cell.col()));
+        }
+        return cost;
+    }
+
+    // Дейкстра на стандартной очереди с приоритетом по тем же целым стоимостям
+    private long referenceCost(Maze maze, Coordinate start, Coordinate end) {
+        int width = maze.getWidth();
+        long[] dist = new long[maze.getHeight() * width];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        dist[start.row() * width + start.col()] = 0;
+        queue.add(new long[] {0, start.row() * width + start.col()});
+        int[][] steps = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        while (!queue.isEmpty()) {
+            long[] top = queue.poll();
+            int cell = (int) top[1];
+            if (top[0] > dist[cell]) {
+                continue;
+            }
+            for (int[] step : steps) {
+                int row = cell / width + step[0];
+                int col = cell % width + step[1];
+                if (!maze.isPassage(row, col)) {
+                    continue;
+                }
+                long next = top[0] + DialSolver.scaledCost(maze.getSurface(row, col));
+                if (next < dist[row * width + col]) {
+                    dist[row * width + col] = next;
+                    queue.add(new long[] {next, row * width + col});
+                }
+            }
+        }
+        return dist[end.row() * width + end.col()];
+    }
+}
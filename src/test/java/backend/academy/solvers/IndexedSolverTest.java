@@ -0,0 +1,100 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.interfaces.IndexedSolver;
+import backend.academy.interfaces.Solver;
+import backend.academy.models.Coordinate;
+import backend.academy.models.IntPath;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedSolverTest {
+
+    @Test
+    public void testBfsIndexedPathMatchesCoordinatePath() {
+        assertSamePaths(new BFSSolver());
+    }
+
+    @Test
+    public void testAStarIndexedPathMatchesCoordinatePath() {
+        assertSamePaths(new AStarSolver());
+    }
+
+    @Test
+    public void testBufferIsReusedAcrossMazes() {
+        BFSSolver solver = new BFSSolver();
+        IntPath path = new IntPath(1);
+
+        Maze small = new Maze(5, 5);
+        small.setPassage(1, 1, SurfaceType.NORMAL);
+        small.setPassage(1, 2, SurfaceType.NORMAL);
+        assertTrue(solver.solve(small, small.toIndex(1, 1), small.toIndex(1, 2), path));
+        assertEquals(2, path.length());
+
+        Maze large = new PrimGenerator().generate(41, 41);
+        large.setPassage(39, 39, SurfaceType.NORMAL);
+        large.setPassage(1, 1, SurfaceType.NORMAL);
+        assertTrue(solver.solve(large, large.toIndex(1, 1), large.toIndex(39, 39), path));
+        assertEquals(new Coordinate(1, 1), new Coordinate(path.row(0), path.col(0)));
+        assertEquals(new Coordinate(39, 39), new Coordinate(path.row(path.length() - 1), path.col(path.length() - 1)));
+    }
+
+    @Test
+    public void testMissingPathClearsBuffer() {
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(3, 3, SurfaceType.NORMAL);
+        IntPath path = new IntPath();
+        path.resize(3, 5);
+
+        assertFalse(new AStarSolver().solve(maze, maze.toIndex(1, 1), maze.toIndex(3, 3), path));
+        assertTrue(path.isEmpty(), "Буфер должен быть очищен, если путь не найден.");
+    }
+
+    @Test
+    public void testCellOutsideMazeIsRejected() {
+        Maze maze = new Maze(5, 5);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> new BFSSolver().solve(maze, 0, 25, new IntPath()));
+    }
+
+    @Test
+    public void testReleaseKeepsSolverUsable() {
+        Maze maze = new PrimGenerator().generate(41, 41);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(39, 39, SurfaceType.NORMAL);
+        DialSolver solver = new DialSolver();
+        IntPath path = new IntPath();
+
+        assertTrue(solver.solve(maze, maze.toIndex(1, 1), maze.toIndex(39, 39), path));
+        List<Coordinate> expected = path.toCoordinates();
+        int expanded = solver.getExpandedCount();
+        solver.release();
+
+        assertEquals(0, solver.getExpandedCount(), "После освобождения состояние потока должно быть сброшено.");
+        assertEquals(expected, solver.solve(maze, new Coordinate(1, 1), new Coordinate(39, 39)));
+        assertEquals(expanded, solver.getExpandedCount(), "Поиск по координатам тоже должен считать клетки.");
+        assertTrue(solver.solve(maze, maze.toIndex(1, 1), maze.toIndex(39, 39), path));
+        assertEquals(expected, path.toCoordinates());
+    }
+
+    private void assertSamePaths(IndexedSolver solver) {
+        Maze maze = new PrimGenerator().generate(31, 41);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(29, 39, SurfaceType.NORMAL);
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(29, 39);
+        IntPath path = new IntPath();
+
+        List<Coordinate> expected = ((Solver) solver).solve(maze, start, end);
+        // Повторный поиск тем же экземпляром должен давать тот же результат
+        for (int i = 0; i < 3; i++) {
+            assertTrue(solver.solve(maze, maze.toIndex(1, 1), maze.toIndex(29, 39), path));
+            assertEquals(expected, path.toCoordinates());
+        }
+    }
+}
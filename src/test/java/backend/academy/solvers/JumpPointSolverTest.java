@@ -0,0 +1,107 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JumpPointSolverTest {
+
+    @Test
+    public void testUniformPathIsShortest() {
+        JumpPointSolver jps = new JumpPointSolver();
+        BFSSolver bfs = new BFSSolver();
+        MazeRandom random = new MazeRandom(40);
+        for (int seed = 0; seed < 5; seed++) {
+            Maze maze = new KruskalGenerator().generate(51, 71, new MazeRandom(seed));
+            for (int i = 0; i < 20; i++) {
+                Coordinate start = randomCell(maze, random);
+                Coordinate end = randomCell(maze, random);
+
+                List<Coordinate> path = jps.solve(maze, start, end);
+
+                assertValidPath(maze, path, start, end);
+                assertEquals(bfs.solve(maze, start, end).size(), path.size(), "Путь должен быть кратчайшим.");
+            }
+        }
+    }
+
+    @Test
+    public void testSurfaceAwarePathMatchesDialCost() {
+        JumpPointSolver jps = new JumpPointSolver(true);
+        DialSolver dial = new DialSolver();
+        MazeRandom random = new MazeRandom(41);
+        for (int seed = 0; seed < 5; seed++) {
+            Maze maze = new KruskalGenerator().generate(51, 51, new MazeRandom(seed));
+            for (int i = 0; i < 20; i++) {
+                Coordinate start = randomCell(maze, random);
+                Coordinate end = randomCell(maze, random);
+
+                List<Coordinate> path = jps.solve(maze, start, end);
+
+                assertValidPath(maze, path, start, end);
+                assertEquals(scaledCost(maze, dial.solve(maze, start, end)), scaledCost(maze, path),
+                    "Стоимость пути должна быть оптимальной с учетом поверхностей.");
+            }
+        }
+    }
+
+    @Test
+    public void testCorridorCellsAreSkipped() {
+        Maze maze = new RecursiveBacktrackerGenerator().generate(101, 101, new MazeRandom(3));
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(99, 99);
+        BFSSolver bfs = new BFSSolver();
+        JumpPointSolver jps = new JumpPointSolver();
+
+        List<Coordinate> expected = bfs.solve(maze, start, end);
+        List<Coordinate> path = jps.solve(maze, start, end);
+
+        assertEquals(expected.size(), path.size());
+        assertTrue(jps.getExpandedCount() * 2 < bfs.getExpandedCount(),
+            "В кучу должны попадать только точки прыжка, а не все клетки коридоров.");
+    }
+
+    @Test
+    public void testMissingPathAndSameCell() {
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(3, 3, SurfaceType.NORMAL);
+        Coordinate cell = new Coordinate(1, 1);
+
+        assertTrue(new JumpPointSolver().solve(maze, cell, new Coordinate(3, 3)).isEmpty());
+        assertEquals(List.of(cell), new JumpPointSolver(true).solve(maze, cell, cell));
+    }
+
+    private Coordinate randomCell(Maze maze, MazeRandom random) {
+        int row = 2 * random.nextInt(maze.getHeight() / 2) + 1;
+        int col = 2 * random.nextInt(maze.getWidth() / 2) + 1;
+        return new Coordinate(row, col);
+    }
+
+    private void assertValidPath(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end) {
+        assertEquals(start, path.getFirst());
+        assertEquals(end, path.getLast());
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate a = path.get(i - 1);
+            Coordinate b = path.get(i);
+            int distance = Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+            assertEquals(1, distance, "Шаги пути должны быть соседними.");
+            assertTrue(maze.isPassage(b.row(), b.col()));
+        }
+    }
+
+    private long scaledCost(Maze maze, List<Coordinate> path) {
+        long cost = 0;
+        for (Coordinate cell : path.subList(1, path.size())) {
+            cost += DialSolver.scaledCost(maze.getSurface(cell.row(), cell.col()));
+        }
+        return cost;
+    }
+}
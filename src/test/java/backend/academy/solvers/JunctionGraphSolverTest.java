@@ -0,0 +1,158 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.models.Cell;
+import backend.academy.models.Coordinate;
+import backend.academy.models.IntPath;
+import backend.academy.models.Maze;
+import backend.academy.models.MazeSnapshot;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JunctionGraphSolverTest {
+
+    @Test
+    public void testCostMatchesDialBetweenAnyPassageCells() {
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+        DialSolver dial = new DialSolver();
+        MazeRandom random = new MazeRandom(50);
+        for (int seed = 0; seed < 5; seed++) {
+            Maze maze = new KruskalGenerator().generate(41, 61, new MazeRandom(seed));
+            MazeSnapshot snapshot = maze.freeze();
+            for (int i = 0; i < 40; i++) {
+                Coordinate start = randomPassage(maze, random);
+                Coordinate end = randomPassage(maze, random);
+
+                List<Coordinate> path = solver.solve(snapshot, start, end);
+
+                assertValidPath(maze, path, start, end);
+                assertEquals(scaledCost(maze, dial.solve(maze, start, end)), scaledCost(maze, path),
+                    "Стоимость пути должна совпадать с алгоритмом Дайала.");
+            }
+        }
+    }
+
+    @Test
+    public void testCellsInSameCorridor() {
+        // Коридор по строке 1 и обход по строке 3, соединенные столбцами 1 и 5
+        Maze maze = new Maze(5, 7);
+        for (int col = 1; col <= 5; col++) {
+            maze.setPassage(1, col, SurfaceType.NORMAL);
+            maze.setPassage(3, col, SurfaceType.ROAD);
+        }
+        maze.setPassage(2, 1, SurfaceType.NORMAL);
+        maze.setPassage(2, 5, SurfaceType.NORMAL);
+        maze.setPassage(1, 3, SurfaceType.SWAMP);
+        MazeSnapshot snapshot = maze.freeze();
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+        DialSolver dial = new DialSolver();
+
+        List<Coordinate> forward = solver.solve(snapshot, new Coordinate(1, 2), new Coordinate(1, 4));
+        List<Coordinate> backward = solver.solve(snapshot, new Coordinate(1, 4), new Coordinate(1, 2));
+        List<Coordinate> straight = solver.solve(snapshot, new Coordinate(3, 2), new Coordinate(3, 4));
+
+        assertEquals(scaledCost(maze, dial.solve(maze, new Coordinate(1, 2), new Coordinate(1, 4))),
+            scaledCost(maze, forward), "Болото выгоднее обойти по дорожке.");
+        assertEquals(forward.reversed(), backward);
+        assertEquals(3, straight.size(), "Путь внутри коридора не должен заходить в узлы.");
+    }
+
+    @Test
+    public void testFewerNodesThanCellsAreExpanded() {
+        Maze maze = new RecursiveBacktrackerGenerator().generate(101, 101, new MazeRandom(7));
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(99, 99);
+        BFSSolver bfs = new BFSSolver();
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+
+        List<Coordinate> expected = bfs.solve(maze, start, end);
+        List<Coordinate> path = solver.solve(maze.freeze(), start, end);
+
+        assertEquals(expected.size(), path.size());
+        assertTrue(solver.getExpandedCount() * 5 < bfs.getExpandedCount(),
+            "Поиск должен раскрывать только развилки и тупики.");
+    }
+
+    @Test
+    public void testMissingPathWallAndSameCell() {
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(3, 3, SurfaceType.NORMAL);
+        MazeSnapshot snapshot = maze.freeze();
+        Coordinate cell = new Coordinate(1, 1);
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+
+        assertTrue(solver.solve(snapshot, cell, new Coordinate(3, 3)).isEmpty());
+        assertTrue(solver.solve(snapshot, cell, new Coordinate(2, 2)).isEmpty(), "Путь в стену не ищется.");
+        assertEquals(List.of(cell), solver.solve(snapshot, cell, cell));
+    }
+
+    @Test
+    public void testEditBetweenSolvesIsSeen() {
+        Maze maze = new Maze(3, 7);
+        for (int col = 1; col <= 5; col++) {
+            maze.setPassage(1, col, SurfaceType.NORMAL);
+        }
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(1, 5);
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+        DialSolver dial = new DialSolver();
+        assertEquals(5, solver.solve(maze.freeze(), start, end).size());
+
+        maze.setCell(1, 3, Cell.Type.WALL, SurfaceType.NORMAL);
+
+        MazeSnapshot edited = maze.freeze();
+        assertEquals(dial.solve(maze, start, end), solver.solve(edited, start, end));
+        assertTrue(solver.solve(edited, start, end).isEmpty(), "Путь через новую стену не должен находиться.");
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(maze, start, end),
+            "Изменяемый лабиринт без готового графа должен отклоняться.");
+    }
+
+    @Test
+    public void testPrebuiltGraphIsUsed() {
+        Maze maze = new KruskalGenerator().generate(41, 41, new MazeRandom(8));
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(39, 39);
+        JunctionGraphSolver solver = new JunctionGraphSolver(JunctionGraph.build(maze));
+
+        assertEquals(new JunctionGraphSolver().solve(maze.freeze(), start, end), solver.solve(maze, start, end));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(new Maze(5, 5), 0, 0, new IntPath()),
+            "Граф другого лабиринта должен отклоняться.");
+        assertThrows(IllegalArgumentException.class, () -> new JunctionGraphSolver(null));
+    }
+
+    private Coordinate randomPassage(Maze maze, MazeRandom random) {
+        while (true) {
+            int row = random.nextInt(maze.getHeight());
+            int col = random.nextInt(maze.getWidth());
+            if (maze.isPassage(row, col)) {
+                return new Coordinate(row, col);
+            }
+        }
+    }
+
+    private void assertValidPath(Maze maze, List<Coordinate> path, Coordinate start, Coordinate end) {
+        assertEquals(start, path.getFirst());
+        assertEquals(end, path.getLast());
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate a = path.get(i - 1);
+            Coordinate b = path.get(i);
+            int distance = Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+            assertEquals(1, distance, "Шаги пути должны быть соседними.");
+            assertTrue(maze.isPassage(b.row(), b.col()));
+        }
+    }
+
+    private long scaledCost(Maze maze, List<Coordinate> path) {
+        long cost = 0;
+        for (Coordinate cell : path.subList(1, path.size())) {
+            cost += DialSolver.scaledCost(maze.getSurface(cell.row(), cell.col()));
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,98 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.models.Cell;
+import backend.academy.models.Maze;
+import backend.academy.models.MazeSnapshot;
+import backend.academy.models.SurfaceType;
+import backend.academy.utils.MazeRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JunctionGraphTest {
+
+    @Test
+    public void testCorridorsAreCompressed() {
+        Maze maze = new RecursiveBacktrackerGenerator().generate(101, 101, new MazeRandom(5));
+
+        JunctionGraph graph = JunctionGraph.build(maze);
+
+        int passages = 0;
+        for (int row = 0; row < maze.getHeight(); row++) {
+            for (int col = 0; col < maze.getWidth(); col++) {
+                passages += maze.isPassage(row, col) ? 1 : 0;
+            }
+        }
+        assertEquals(passages, graph.getPassageCount());
+        assertTrue(graph.getNodeCount() * 5 < passages, "Узлов должно быть в разы меньше, чем клеток прохода.");
+        assertTrue(graph.getEdgeCount() >= graph.getNodeCount() - 1, "Граф связного лабиринта должен быть связным.");
+    }
+
+    @Test
+    public void testEdgeKeepsCellsAndCost() {
+        // Тупик (1, 1) - коридор из трех клеток с поворотом - тупик (3, 3)
+        Maze maze = new Maze(5, 5);
+        maze.setPassage(1, 1, SurfaceType.NORMAL);
+        maze.setPassage(1, 2, SurfaceType.SWAMP);
+        maze.setPassage(1, 3, SurfaceType.COIN);
+        maze.setPassage(2, 3, SurfaceType.ROAD);
+        maze.setPassage(3, 3, SurfaceType.SAND);
+
+        JunctionGraph graph = JunctionGraph.build(maze);
+
+        assertEquals(2, graph.getNodeCount());
+        assertEquals(1, graph.getEdgeCount());
+        assertEquals(3, graph.runLength(0));
+        assertEquals(maze.toIndex(1, 1), graph.cellAt(0, -1));
+        assertEquals(maze.toIndex(1, 2), graph.cellAt(0, 0));
+        assertEquals(maze.toIndex(2, 3), graph.cellAt(0, 2));
+        assertEquals(maze.toIndex(3, 3), graph.cellAt(0, 3));
+        assertEquals(5.5, graph.edgeCost(0), "Монетка в весе ребра должна считаться нулевой.");
+    }
+
+    @Test
+    public void testRingWithoutJunctionsBecomesLoop() {
+        Maze maze = new Maze(5, 5);
+        for (int i = 1; i <= 3; i++) {
+            maze.setPassage(1, i, SurfaceType.NORMAL);
+            maze.setPassage(3, i, SurfaceType.NORMAL);
+            maze.setPassage(i, 1, SurfaceType.NORMAL);
+            maze.setPassage(i, 3, SurfaceType.NORMAL);
+        }
+
+        JunctionGraph graph = JunctionGraph.build(maze);
+
+        assertEquals(1, graph.getNodeCount());
+        assertEquals(1, graph.getEdgeCount());
+        assertEquals(graph.from(0), graph.to(0));
+        assertEquals(7, graph.runLength(0));
+    }
+
+    @Test
+    public void testGraphIsCachedOnlyForSnapshots() {
+        Maze maze = new RecursiveBacktrackerGenerator().generate(21, 21, new MazeRandom(6));
+        MazeSnapshot snapshot = maze.freeze();
+
+        JunctionGraph graph = JunctionGraph.of(snapshot);
+
+        assertSame(graph, JunctionGraph.of(snapshot), "Повторный запрос для снимка должен вернуть граф из кэша.");
+        assertNotSame(graph, JunctionGraph.of(maze.freeze()), "Другой снимок должен получить свой граф.");
+        assertThrows(IllegalArgumentException.class, () -> JunctionGraph.of(maze),
+            "Граф изменяемого лабиринта не должен кэшироваться.");
+    }
+
+    @Test
+    public void testSnapshotAfterEditGetsNewGraph() {
+        Maze maze = new Maze(3, 7);
+        for (int col = 1; col <= 5; col++) {
+            maze.setPassage(1, col, SurfaceType.NORMAL);
+        }
+        assertEquals(5, JunctionGraph.of(maze.freeze()).getPassageCount());
+
+        maze.setCell(1, 3, Cell.Type.WALL, SurfaceType.NORMAL);
+
+        assertEquals(4, JunctionGraph.of(maze.freeze()).getPassageCount(),
+            "Граф нового снимка должен учитывать изменение лабиринта.");
+    }
+}
@@ -0,0 +1,49 @@
+package backend.academy.solvers;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeHeapTest {
+
+    @Test
+    public void testDecreaseKeyReordersWithoutDuplicates() {
+        NodeHeap heap = new NodeHeap();
+        heap.prepare(10);
+        heap.pushOrDecrease(1, 5.0);
+        heap.pushOrDecrease(2, 3.0);
+        heap.pushOrDecrease(3, 4.0);
+        heap.pushOrDecrease(1, 1.0);
+        heap.pushOrDecrease(2, 9.0);
+
+        assertEquals(1, heap.pop());
+        assertEquals(2, heap.pop(), "Больший приоритет не должен заменять меньший.");
+        assertEquals(3, heap.pop());
+        assertTrue(heap.isEmpty(), "Клетка с уменьшенным приоритетом не должна оставаться в куче дважды.");
+    }
+
+    @Test
+    public void testPopsInKeyOrderAfterReuse() {
+        NodeHeap heap = new NodeHeap();
+        Random random = new Random(7);
+        for (int round = 0; round < 3; round++) {
+            heap.prepare(1000);
+            double[] best = new double[1000];
+            Arrays.fill(best, Double.MAX_VALUE);
+            for (int i = 0; i < 3000; i++) {
+                int node = random.nextInt(1000);
+                double key = random.nextDouble();
+                heap.pushOrDecrease(node, key);
+                best[node] = Math.min(best[node], key);
+            }
+            double previous = -1.0;
+            for (int i = 0; i < 500 && !heap.isEmpty(); i++) {
+                int node = heap.pop();
+                assertTrue(best[node] >= previous);
+                previous = best[node];
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package backend.academy.solvers;
+
+import backend.academy.generators.KruskalGenerator;
+import backend.academy.interfaces.IndexedSolver;
+import backend.academy.interfaces.MazeGrid;
+import backend.academy.interfaces.Solver;
+import backend.academy.models.Coordinate;
+import backend.academy.models.IntPath;
+import backend.academy.models.MazeSnapshot;
+import backend.academy.utils.MazeRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedSolverTest {
+
+    @Test
+    public void testBfsIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(BFSSolver::new);
+    }
+
+    @Test
+    public void testAStarIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(AStarSolver::new);
+    }
+
+    @Test
+    public void testDialIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(DialSolver::new);
+    }
+
+    @Test
+    public void testJumpPointIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(JumpPointSolver::new);
+    }
+
+    @Test
+    public void testBidirectionalBfsIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(BidirectionalBFSSolver::new);
+    }
+
+    @Test
+    public void testBidirectionalAStarIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(BidirectionalAStarSolver::new);
+    }
+
+    @Test
+    public void testJunctionGraphIsSafeToShare() throws Exception {
+        assertSharedMatchesSequential(JunctionGraphSolver::new);
+    }
+
+    // Снимки лабиринтов разного размера, чтобы потоки одновременно перевыделяли рабочие массивы
+    private <T extends Solver & IndexedSolver> void assertSharedMatchesSequential(Supplier<T> solvers)
+        throws Exception {
+        List<MazeSnapshot> mazes = List.of(
+            new KruskalGenerator().generate(21, 31, new MazeRandom(1)).freeze(),
+            new KruskalGenerator().generate(61, 41, new MazeRandom(2)).freeze(),
+            new KruskalGenerator().generate(101, 101, new MazeRandom(3)).freeze());
+        MazeRandom random = new MazeRandom(4);
+        List<MazeSnapshot> queryMazes = new ArrayList<>();
+        List<Coordinate> starts = new ArrayList<>();
+        List<Coordinate> ends = new ArrayList<>();
+        List<List<Coordinate>> expected = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            MazeSnapshot maze = mazes.get(i % mazes.size());
+            Coordinate start = randomCell(maze, random);
+            Coordinate end = randomCell(maze, random);
+            queryMazes.add(maze);
+            starts.add(start);
+            ends.add(end);
+            expected.add(solvers.get().solve(maze, start, end));
+        }
+
+        T shared = solvers.get();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> workers = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                int offset = worker;
+                workers.add(pool.submit(() -> {
+                    IntPath path = new IntPath();
+                    for (int round = 0; round < 5; round++) {
+                        for (int j = 0; j < expected.size(); j++) {
+                            int i = (j + offset * 7) % expected.size();
+                            MazeSnapshot maze = queryMazes.get(i);
+                            Coordinate start = starts.get(i);
+                            Coordinate end = ends.get(i);
+                            // Чередуем оба варианта поиска на одном экземпляре
+                            List<Coordinate> actual = (i + round) % 2 == 0
+                                ? shared.solve(maze, start, end)
+                                : solveIndexed(shared, maze, start, end, path);
+                            if (!expected.get(i).equals(actual)) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> worker : workers) {
+                assertTrue(worker.get(), "Общий решатель должен находить те же пути, что и последовательный.");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Coordinate> solveIndexed(IndexedSolver solver, MazeGrid maze, Coordinate start, Coordinate end,
+        IntPath path) {
+        boolean found = solver.solve(maze, maze.toIndex(start.row(), start.col()),
+            maze.toIndex(end.row(), end.col()), path);
+        return found ? path.toCoordinates() : List.of();
+    }
+
+    private Coordinate randomCell(MazeGrid maze, MazeRandom random) {
+        // Нечетные клетки лабиринта Краскала всегда являются проходами
+        return new Coordinate(random.nextInt(maze.getHeight() / 2) * 2 + 1,
+            random.nextInt(maze.getWidth() / 2) * 2 + 1);
+    }
+}
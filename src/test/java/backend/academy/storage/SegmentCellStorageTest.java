@@ -0,0 +1,78 @@
+package backend.academy.storage;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.solvers.AStarSolver;
+import backend.academy.solvers.BFSSolver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentCellStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testOffHeapMazeCanBeGeneratedAndSolved() {
+        try (SegmentCellStorage storage = SegmentCellStorage.allocate(21, 31)) {
+            Maze maze = new Maze(storage);
+            new PrimGenerator().carve(maze);
+            maze.addCycles();
+
+            List<Coordinate> path = new AStarSolver().solve(maze, new Coordinate(1, 1), new Coordinate(19, 29));
+
+            assertFalse(path.isEmpty(), "Должен быть найден путь.");
+        }
+    }
+
+    @Test
+    public void testMappedMazeSurvivesReopen() throws IOException {
+        Path file = tempDir.resolve("maze.bin");
+        Maze heapCopy = new Maze(31, 21);
+
+        try (SegmentCellStorage storage = SegmentCellStorage.create(file, 31, 21)) {
+            Maze maze = new Maze(storage);
+            new PrimGenerator().carve(maze);
+            copy(maze, heapCopy);
+            storage.flush();
+        }
+
+        try (SegmentCellStorage storage = SegmentCellStorage.open(file)) {
+            Maze reopened = new Maze(storage);
+            assertEquals(31, reopened.getHeight());
+            assertEquals(21, reopened.getWidth());
+            for (int row = 0; row < reopened.getHeight(); row++) {
+                for (int col = 0; col < reopened.getWidth(); col++) {
+                    assertEquals(heapCopy.getCell(row, col), reopened.getCell(row, col));
+                }
+            }
+
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(29, 19);
+            assertEquals(new BFSSolver().solve(heapCopy, start, end), new BFSSolver().solve(reopened, start, end));
+        }
+    }
+
+    @Test
+    public void testCreateDoesNotOverwriteExistingFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("existing.bin"), "data");
+
+        assertThrows(IOException.class, () -> SegmentCellStorage.create(file, 5, 5));
+        assertThrows(IOException.class, () -> SegmentCellStorage.open(file));
+    }
+
+    private void copy(Maze from, Maze to) {
+        for (int row = 0; row < from.getHeight(); row++) {
+            for (int col = 0; col < from.getWidth(); col++) {
+                to.setCell(row, col, from.getType(row, col), from.getSurface(row, col));
+            }
+        }
+    }
+}
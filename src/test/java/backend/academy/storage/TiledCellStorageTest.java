@@ -0,0 +1,96 @@
+package backend.academy.storage;
+
+import backend.academy.generators.PrimGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.models.Cell;
+import backend.academy.models.Coordinate;
+import backend.academy.models.Maze;
+import backend.academy.models.SurfaceType;
+import backend.academy.solvers.AStarSolver;
+import backend.academy.solvers.BFSSolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TiledCellStorageTest {
+
+    private static final int TILE_SIZE = 8;
+    private static final long BUDGET = 4L * TILE_SIZE * TILE_SIZE;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUntouchedTilesAreNotMaterialized() throws IOException {
+        try (TiledCellStorage storage = new TiledCellStorage(1001, 1001, TILE_SIZE, BUDGET, tempDir)) {
+            Maze maze = new Maze(storage);
+
+            assertEquals(Cell.Type.WALL, maze.getType(500, 500));
+            assertEquals(0, storage.getResidentTiles(), "Чтение пустой плитки не должно ее создавать.");
+        }
+    }
+
+    @Test
+    public void testEvictedTilesAreReloaded() throws IOException {
+        try (TiledCellStorage storage = new TiledCellStorage(64, 64, TILE_SIZE, BUDGET, tempDir)) {
+            Maze maze = new Maze(storage);
+            for (int row = 0; row < 64; row++) {
+                maze.setPassage(row, row, SurfaceType.SAND);
+            }
+
+            assertTrue(storage.getResidentTiles() <= 4, "Число плиток в памяти не должно превышать бюджет.");
+            for (int row = 0; row < 64; row++) {
+                assertEquals(new Cell(row, row, Cell.Type.PASSAGE, SurfaceType.SAND), maze.getCell(row, row));
+                assertEquals(Cell.Type.WALL, maze.getType(row, 63 - row));
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratorAndSolverWorkOnTiles() throws IOException {
+        try (TiledCellStorage storage = new TiledCellStorage(81, 81, TILE_SIZE, BUDGET, tempDir)) {
+            Maze maze = new Maze(storage);
+            new RecursiveBacktrackerGenerator().carve(maze);
+
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(79, 79);
+            List<Coordinate> path = new BFSSolver().solve(maze, start, end);
+
+            assertEquals(end, path.get(path.size() - 1));
+            assertTrue(storage.getResidentTiles() <= 4);
+        }
+    }
+
+    @Test
+    public void testMoreCellsThanIntegerRange() throws IOException {
+        try (TiledCellStorage storage = new TiledCellStorage(60_000, 60_000, 1L << 20, tempDir)) {
+            Maze maze = new Maze(storage);
+            maze.setPassage(59_998, 59_998, SurfaceType.ROAD);
+            maze.setPassage(1, 1, SurfaceType.COIN);
+
+            assertTrue((long) maze.getHeight() * maze.getWidth() > Integer.MAX_VALUE);
+            assertEquals(SurfaceType.ROAD, maze.getSurface(59_998, 59_998));
+            assertEquals(SurfaceType.COIN, maze.getSurface(1, 1));
+        }
+    }
+
+    @Test
+    public void testIndexedAlgorithmsRejectMoreCellsThanIntegerRange() throws IOException {
+        try (TiledCellStorage storage = new TiledCellStorage(60_001, 60_001, 1L << 20, tempDir)) {
+            Maze maze = new Maze(storage);
+            maze.setPassage(1, 1, SurfaceType.NORMAL);
+            maze.setPassage(1, 2, SurfaceType.NORMAL);
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(1, 2);
+
+            assertThrows(IllegalArgumentException.class, () -> new BFSSolver().solve(maze, start, end),
+                "Решатели индексируют клетки числом int и должны отклонять такие сетки.");
+            assertThrows(IllegalArgumentException.class, () -> new AStarSolver().solve(maze, start, end));
+            assertThrows(IllegalArgumentException.class, () -> new PrimGenerator().carve(maze));
+        }
+    }
+}
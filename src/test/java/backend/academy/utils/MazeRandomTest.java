@@ -0,0 +1,101 @@
+package backend.academy.utils;
+
+import backend.academy.generators.EllerGenerator;
+import backend.academy.generators.PrimGenerator;
+import backend.academy.generators.RecursiveBacktrackerGenerator;
+import backend.academy.interfaces.Generator;
+import backend.academy.models.Maze;
+import backend.academy.models.MazeCycles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeRandomTest {
+
+    @Test
+    public void testSameSeedGivesSameMaze() {
+        for (Generator generator : List.of(new PrimGenerator(), new RecursiveBacktrackerGenerator(),
+            new EllerGenerator())) {
+            Maze first = generator.generate(41, 51, new MazeRandom(42));
+            Maze second = generator.generate(41, 51, new MazeRandom(42));
+            Maze other = generator.generate(41, 51, new MazeRandom(43));
+
+            assertTrue(sameCells(first, second), "Один seed должен давать один лабиринт.");
+            assertFalse(sameCells(first, other), "Разные seed должны давать разные лабиринты.");
+        }
+    }
+
+    @Test
+    public void testStreamsDependOnlyOnSeedAndId() {
+        MazeRandom fresh = new MazeRandom(7);
+        MazeRandom used = new MazeRandom(7);
+        for (int i = 0; i < 100; i++) {
+            used.nextInt(10);
+        }
+
+        for (int id = 0; id < 4; id++) {
+            assertEquals(fresh.forStream(id).getSeed(), used.forStream(id).getSeed());
+        }
+        assertNotEquals(fresh.forStream(0).getSeed(), fresh.forStream(1).getSeed());
+    }
+
+    @Test
+    public void testParallelGenerationMatchesSequential() throws Exception {
+        MazeRandom root = new MazeRandom(2024);
+        int tiles = 8;
+        List<Maze> sequential = new ArrayList<>();
+        for (int id = 0; id < tiles; id++) {
+            sequential.add(new PrimGenerator().generate(31, 31, root.forStream(id)));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Maze>> parallel = new ArrayList<>();
+            for (int id = tiles - 1; id >= 0; id--) {
+                MazeRandom stream = root.forStream(id);
+                parallel.add(0, pool.submit(() -> new PrimGenerator().generate(31, 31, stream)));
+            }
+            for (int id = 0; id < tiles; id++) {
+                assertTrue(sameCells(sequential.get(id), parallel.get(id).get()),
+                    "Результат не должен зависеть от числа потоков и порядка запуска.");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSkipCountFollowsChance() {
+        MazeRandom random = new MazeRandom(1);
+        int draws = 100_000;
+        long skipped = 0;
+        for (int i = 0; i < draws; i++) {
+            skipped += random.skipCount(MazeCycles.CYCLE_CHANCE);
+        }
+
+        // Среднее число неудач до успеха равно (1 - p) / p
+        double expected = (1 - MazeCycles.CYCLE_CHANCE) / MazeCycles.CYCLE_CHANCE;
+        assertEquals(expected, (double) skipped / draws, 0.1);
+        assertEquals(0, random.skipCount(1.0));
+        assertEquals(Long.MAX_VALUE, random.skipCount(0.0));
+    }
+
+    private boolean sameCells(Maze first, Maze second) {
+        byte[] firstRow = new byte[first.getWidth()];
+        byte[] secondRow = new byte[second.getWidth()];
+        for (int row = 0; row < first.getHeight(); row++) {
+            first.readRow(row, firstRow);
+            second.readRow(row, secondRow);
+            if (!Arrays.equals(firstRow, secondRow)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}